@@ -0,0 +1,131 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.chat.entity.ChatMessage;
+import com.example.demo.modules.chat.entity.ChatRoom;
+import com.example.demo.modules.comment.entity.Comment;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.enums.Role;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 메모리 데이터.
+ * DB/S3 없이 오프라인으로 돌도록 엔티티를 직접 만들고, 카운터 버퍼에는 DataSource 없는 JdbcTemplate/트랜잭션 매니저를 넘긴다
+ * (벤치마크 중에는 flush 하지 않으므로 버퍼는 메모리 카운터로만 동작).
+ */
+final class BenchmarkFixtures {
+
+    // 고정된 시각을 사용해 실행마다 직렬화 결과 길이가 같도록 함
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+
+    private BenchmarkFixtures() {
+    }
+
+    static JdbcTemplate offlineJdbcTemplate() {
+        return new JdbcTemplate();
+    }
+
+    static PlatformTransactionManager offlineTransactionManager() {
+        return new DataSourceTransactionManager();
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .password("{bcrypt}hash")
+                .name("사용자" + id)
+                .nickname("trader" + id)
+                .phoneNumber("010-0000-" + String.format("%04d", id))
+                .profileImageUrl("https://cdn.example.com/uploads/" + id + ".jpg")
+                .profileThumbnailUrl("https://cdn.example.com/derivatives/" + id + "/thumb.jpg")
+                .role(Role.USER)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+
+    static Category category(long id) {
+        return Category.builder()
+                .id(id)
+                .name("주식")
+                .description("주식 거래 이야기")
+                .color("#ff8800")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    // 목록 화면 평균 정도의 본문 (약 2KB)
+    static Post post(long id, User author, Category category) {
+        return Post.builder()
+                .id(id)
+                .title("오늘의 시장 동향 " + id)
+                .content("코스피가 외국인 순매수에 힘입어 상승 마감했습니다. ".repeat(60))
+                .author(author)
+                .category(category)
+                .viewCount(1_000 + (int) id)
+                .likeCount(10 + (int) id % 50)
+                .isPublished(true)
+                .createdAt(NOW.minusMinutes(id))
+                .updatedAt(NOW.minusMinutes(id))
+                .build();
+    }
+
+    static ChatRoom chatRoom(long id, User creator) {
+        return ChatRoom.builder()
+                .id(id)
+                .name("단타 채팅방 " + id)
+                .description("실시간 종목 이야기")
+                .creator(creator)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static ChatMessage chatMessage(long id, User sender, ChatRoom room) {
+        return ChatMessage.builder()
+                .id(id)
+                .content("삼성전자 지금 들어가도 될까요? " + id)
+                .sender(sender)
+                .chatRoom(room)
+                .createdAt(NOW)
+                .build();
+    }
+
+    /**
+     * 게시글 하나의 댓글 목록 (작성 순). 약 1/3 은 최상위 댓글이고 나머지는 앞선 댓글에 단 답글이라
+     * 여러 단계 깊이의 트리가 만들어진다.
+     */
+    static List<Comment> comments(int count, Post post, List<User> authors) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Comment parent = i % 3 == 0 || comments.isEmpty() ? null : comments.get((i * 7) % comments.size());
+            comments.add(Comment.builder()
+                    .id((long) i + 1)
+                    .content("좋은 분석 감사합니다 " + i)
+                    .author(authors.get(i % authors.size()))
+                    .post(post)
+                    .parent(parent)
+                    .createdAt(NOW.plusSeconds(i))
+                    .updatedAt(NOW.plusSeconds(i))
+                    .build());
+        }
+        return comments;
+    }
+}
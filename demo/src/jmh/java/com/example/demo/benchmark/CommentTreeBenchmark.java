@@ -0,0 +1,52 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.modules.comment.dto.CommentDto;
+import com.example.demo.modules.comment.entity.Comment;
+import com.example.demo.modules.comment.mapper.CommentMapper;
+import com.example.demo.modules.comment.service.CommentLikeCountBuffer;
+import com.example.demo.modules.comment.service.CommentTreeAssembler;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 댓글 목록 조회 경로 (CommentService.getCommentsByPostId): 엔티티 변환 + 트리 조립.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+    @Param({"50", "500"})
+    private int commentCount;
+
+    private CommentMapper commentMapper;
+    private CommentTreeAssembler assembler;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        commentMapper = new CommentMapper(new CommentLikeCountBuffer(BenchmarkFixtures.offlineJdbcTemplate(),
+                BenchmarkFixtures.offlineTransactionManager()));
+        assembler = new CommentTreeAssembler();
+
+        List<User> authors = BenchmarkFixtures.users(20);
+        Post post = BenchmarkFixtures.post(1L, authors.get(0), BenchmarkFixtures.category(1L));
+        comments = BenchmarkFixtures.comments(commentCount, post, authors);
+    }
+
+    @Benchmark
+    public List<CommentDto.Response> mapAndAssemble() {
+        return assembler.assemble(commentMapper.mapAll(comments));
+    }
+}
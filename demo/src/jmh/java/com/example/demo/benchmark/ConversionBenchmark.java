@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.chat.dto.ChatDto;
+import com.example.demo.modules.chat.entity.ChatMessage;
+import com.example.demo.modules.chat.entity.ChatRoom;
+import com.example.demo.modules.chat.mapper.ChatMessageMapper;
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.mapper.PostMapper;
+import com.example.demo.modules.post.service.PostLikeCountBuffer;
+import com.example.demo.modules.post.service.PostViewCountBuffer;
+import com.example.demo.modules.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층의 엔티티 -> 응답 변환 (게시글 상세, 채팅 메시지 기록).
+ * 게시글 변환은 카운터 버퍼의 미반영 증감분 조회까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversionBenchmark {
+
+    private static final int CHAT_HISTORY_SIZE = 50;
+
+    private PostMapper postMapper;
+    private ChatMessageMapper chatMessageMapper;
+
+    private Post post;
+    private ChatMessage chatMessage;
+    private List<ChatMessage> chatHistory;
+
+    @Setup
+    public void setUp() {
+        PostViewCountBuffer viewCountBuffer = new PostViewCountBuffer(BenchmarkFixtures.offlineJdbcTemplate(),
+                BenchmarkFixtures.offlineTransactionManager());
+        PostLikeCountBuffer likeCountBuffer = new PostLikeCountBuffer(BenchmarkFixtures.offlineJdbcTemplate(),
+                BenchmarkFixtures.offlineTransactionManager());
+        postMapper = new PostMapper(viewCountBuffer, likeCountBuffer);
+        chatMessageMapper = new ChatMessageMapper();
+
+        User author = BenchmarkFixtures.user(1L);
+        Category category = BenchmarkFixtures.category(1L);
+        post = BenchmarkFixtures.post(1L, author, category);
+        // 아직 flush 되지 않은 조회수/좋아요가 있는 상태
+        viewCountBuffer.add(post.getId(), 17);
+        likeCountBuffer.add(post.getId(), 2);
+
+        ChatRoom room = BenchmarkFixtures.chatRoom(1L, author);
+        chatHistory = new ArrayList<>(CHAT_HISTORY_SIZE);
+        for (long i = 1; i <= CHAT_HISTORY_SIZE; i++) {
+            chatHistory.add(BenchmarkFixtures.chatMessage(i, BenchmarkFixtures.user(i % 5 + 1), room));
+        }
+        chatMessage = chatHistory.get(0);
+    }
+
+    @Benchmark
+    public PostDto.Response postResponse() {
+        return postMapper.map(post);
+    }
+
+    @Benchmark
+    public ChatDto.MessageResponse chatMessageResponse() {
+        return chatMessageMapper.map(chatMessage);
+    }
+
+    // 채팅방 입장 시 최근 메시지 목록 변환
+    @Benchmark
+    public List<ChatDto.MessageResponse> chatHistoryResponse() {
+        return chatMessageMapper.mapAll(chatHistory);
+    }
+}
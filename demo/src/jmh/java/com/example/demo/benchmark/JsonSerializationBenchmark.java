@@ -0,0 +1,92 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.mapper.PostMapper;
+import com.example.demo.modules.post.mapper.PostSummaryMapper;
+import com.example.demo.modules.post.repository.PostSummaryRow;
+import com.example.demo.modules.post.service.PostLikeCountBuffer;
+import com.example.demo.modules.post.service.PostViewCountBuffer;
+import com.example.demo.modules.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 페이지 응답의 JSON 직렬화 비용.
+ * 목록 API 가 실제로 내려주는 Page<PostDto.Summary> 와, 본문 전체를 담는 Page<PostDto.Response> 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<PostDto.Response> responsePage;
+    private Page<PostDto.Summary> summaryPage;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같이 날짜는 ISO 문자열로
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        PostViewCountBuffer viewCountBuffer = new PostViewCountBuffer(BenchmarkFixtures.offlineJdbcTemplate(),
+                BenchmarkFixtures.offlineTransactionManager());
+        PostLikeCountBuffer likeCountBuffer = new PostLikeCountBuffer(BenchmarkFixtures.offlineJdbcTemplate(),
+                BenchmarkFixtures.offlineTransactionManager());
+        PostMapper postMapper = new PostMapper(viewCountBuffer, likeCountBuffer);
+        PostSummaryMapper summaryMapper = new PostSummaryMapper(viewCountBuffer, likeCountBuffer);
+
+        Category category = BenchmarkFixtures.category(1L);
+        List<PostDto.Response> responses = new ArrayList<>(pageSize);
+        List<PostDto.Summary> summaries = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            User author = BenchmarkFixtures.user(i % 7 + 1);
+            Post post = BenchmarkFixtures.post(i, author, category);
+            responses.add(postMapper.map(post));
+            summaries.add(summaryMapper.map(new PostSummaryRow(post.getId(), post.getTitle(),
+                    post.getContent().substring(0, PostSummaryRow.EXCERPT_LENGTH),
+                    author.getId(), author.getName(), author.getNickname(),
+                    author.getProfileImageUrl(), author.getProfileThumbnailUrl(),
+                    category.getId(), category.getName(), category.getColor(),
+                    post.getViewCount(), post.getLikeCount(), post.getIsPublished(),
+                    post.getCreatedAt(), post.getUpdatedAt())));
+        }
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by("createdAt").descending());
+        responsePage = new PageImpl<>(responses, pageable, 1_000);
+        summaryPage = new PageImpl<>(summaries, pageable, 1_000);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] responsePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responsePage);
+    }
+}
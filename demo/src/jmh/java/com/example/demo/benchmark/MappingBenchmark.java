@@ -0,0 +1,96 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.modules.category.dto.CategoryDto;
+import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.category.mapper.CategoryMapper;
+import com.example.demo.modules.user.dto.UserDto;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.mapper.UserMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비교: 기존 ModelMapper(STRICT, private 필드 접근) 설정 vs 직접 작성한 매퍼.
+ * 목록 벤치마크는 getAllActiveUsers 처럼 N 건을 한 번에 변환하는 경우.
+ * 할당량은 -Pjmh.profilers=gc 로 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    @Param({"100"})
+    private int listSize;
+
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private CategoryMapper categoryMapper;
+
+    private User user;
+    private Category category;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        // 제거 전 ModelMapperConfig 와 같은 설정
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        userMapper = new UserMapper();
+        categoryMapper = new CategoryMapper();
+
+        users = BenchmarkFixtures.users(listSize);
+        user = users.get(0);
+        category = BenchmarkFixtures.category(1L);
+
+        // 첫 변환 때 만들어지는 ModelMapper 타입 맵은 측정에서 제외
+        modelMapper.map(user, UserDto.Response.class);
+        modelMapper.map(category, CategoryDto.Response.class);
+    }
+
+    @Benchmark
+    public UserDto.Response userModelMapper() {
+        return modelMapper.map(user, UserDto.Response.class);
+    }
+
+    @Benchmark
+    public UserDto.Response userMapper() {
+        return userMapper.map(user);
+    }
+
+    @Benchmark
+    public CategoryDto.Response categoryModelMapper() {
+        return modelMapper.map(category, CategoryDto.Response.class);
+    }
+
+    @Benchmark
+    public CategoryDto.Response categoryMapper() {
+        return categoryMapper.map(category);
+    }
+
+    @Benchmark
+    public List<UserDto.Response> userListModelMapper() {
+        return users.stream()
+                .map(u -> modelMapper.map(u, UserDto.Response.class))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<UserDto.Response> userListMapper() {
+        return userMapper.mapAll(users);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간 기록. 작업 스레드마다 하나씩 사용하고(동기화 없음) 마지막에 merge 로 합친다.
+ * 모든 표본을 보관해 정렬 후 백분위를 구하므로 p999 도 근사 없이 계산된다.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, theirs) -> samples.computeIfAbsent(endpoint, key -> new Samples()).addAll(theirs));
+    }
+
+    Map<String, Summary> summarize(double elapsedSeconds) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        samples.forEach((endpoint, s) -> summaries.put(endpoint, s.summarize(elapsedSeconds)));
+        return summaries;
+    }
+
+    record Summary(long count, long errors, double throughputPerSecond,
+                   double meanMs, double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    private static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long value, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Summary summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long value : sorted) {
+                total += value;
+            }
+            return new Summary(size, errors, size / elapsedSeconds,
+                    size == 0 ? 0 : toMillis(total / size),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    size == 0 ? 0 : toMillis(sorted[size - 1]));
+        }
+
+        // nearest-rank 방식
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return toMillis(sorted[Math.max(0, rank - 1)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
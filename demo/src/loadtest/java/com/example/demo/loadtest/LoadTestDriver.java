@@ -0,0 +1,304 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * loadtest 프로파일로 띄운 서버에 REST/STOMP 요청을 섞어 보내고 엔드포인트별 처리량과 p50/p99/p999 를 보고한다.
+ * 작업자(가상 스레드)마다 시드 사용자 하나로 로그인해 응답을 받는 즉시 다음 요청을 보내는 closed-loop 방식이며,
+ * warmup 동안의 요청은 집계에서 제외한다.
+ *
+ * 사용법: ./gradlew loadTest -PloadTest.args="duration=60s concurrency=64 mix=feed:40,post:20,search:10,like:10,chat:10,notification:5,upload:5"
+ */
+public class LoadTestDriver {
+
+    private final Options options;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private long postCount;
+    private List<Long> roomIds;
+    private byte[] uploadPayload;
+
+    LoadTestDriver(Options options) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        System.out.println("부하 테스트 설정: " + options);
+        new LoadTestDriver(options).run();
+    }
+
+    void run() throws Exception {
+        List<String> tokens = login();
+        discover();
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + options.warmup.toNanos();
+        long deadlineNanos = measureFromNanos + options.duration.toNanos();
+
+        List<Future<LatencyRecorder>> workers = new ArrayList<>(options.concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency; i++) {
+                Worker worker = new Worker(i, tokens.get(i % tokens.size()), measureFromNanos, deadlineNanos);
+                workers.add(executor.submit(worker::call));
+            }
+        }
+        LatencyRecorder total = new LatencyRecorder();
+        for (Future<LatencyRecorder> worker : workers) {
+            total.merge(worker.get());
+        }
+        report(total.summarize(options.duration.toMillis() / 1000.0));
+    }
+
+    // BCrypt 검증이 느리므로 로그인은 병렬로
+    private List<String> login() throws Exception {
+        List<Future<String>> futures = new ArrayList<>(options.users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= options.users; i++) {
+                String body = objectMapper.writeValueAsString(Map.of("email", LoadTestData.email(i), "password", LoadTestData.PASSWORD));
+                futures.add(executor.submit(() -> {
+                    HttpResponse<String> response = httpClient.send(request("/api/auth/login", null)
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .header("Content-Type", "application/json")
+                            .build(), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("로그인 실패 (" + response.statusCode() + "): 서버가 loadtest 프로파일로 기동되었는지 확인하세요");
+                    }
+                    return objectMapper.readTree(response.body()).get("accessToken").asText();
+                }));
+            }
+        }
+        List<String> tokens = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            tokens.add(future.get());
+        }
+        System.out.println("로그인 완료: " + tokens.size() + "명");
+        return tokens;
+    }
+
+    // 시드 데이터는 빈 DB 에 순서대로 들어가므로 게시글 ID 는 1..postCount
+    private void discover() throws IOException, InterruptedException {
+        JsonNode page = getJson("/api/posts/public?size=1", null);
+        postCount = page.get("totalElements").asLong();
+        roomIds = new ArrayList<>();
+        for (JsonNode room : getJson("/api/chat/rooms", null).get("rooms")) {
+            roomIds.add(room.get("id").asLong());
+        }
+        uploadPayload = new byte[options.uploadBytes];
+        new SplittableRandom(options.seed).nextBytes(uploadPayload);
+        System.out.println("대상: 게시글 " + postCount + "개, 채팅방 " + roomIds.size() + "개");
+        if (postCount == 0) {
+            throw new IllegalStateException("게시글이 없습니다. 서버가 loadtest 프로파일로 기동되었는지 확인하세요");
+        }
+    }
+
+    private void report(Map<String, LatencyRecorder.Summary> summaries) throws IOException {
+        System.out.println();
+        System.out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        summaries.forEach((endpoint, s) -> System.out.printf("%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, s.count(), s.errors(), s.throughputPerSecond(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options.toString());
+        report.put("endpoints", summaries);
+        Path path = Path.of(options.report);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        System.out.println();
+        System.out.println("결과 저장: " + path.toAbsolutePath());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 조회 실패: " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    /**
+     * 작업자 하나. 시나리오를 가중치대로 골라 실행하고, 측정 구간의 응답 시간만 기록한다.
+     */
+    private class Worker {
+
+        private final int index;
+        private final String token;
+        private final long measureFromNanos;
+        private final long deadlineNanos;
+        private final SplittableRandom random;
+        private final LatencyRecorder recorder = new LatencyRecorder();
+        private StompChatClient chatClient;
+
+        Worker(int index, String token, long measureFromNanos, long deadlineNanos) {
+            this.index = index;
+            this.token = token;
+            this.measureFromNanos = measureFromNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.random = new SplittableRandom(options.seed + index);
+        }
+
+        LatencyRecorder call() {
+            try {
+                while (System.nanoTime() < deadlineNanos) {
+                    try {
+                        runScenario(options.mix.pick(random));
+                    } catch (IOException e) {
+                        // 연결 실패 등은 해당 요청을 실패로 기록하고 계속 진행 (기록은 각 시나리오에서)
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (chatClient != null) {
+                    chatClient.close();
+                }
+            }
+            return recorder;
+        }
+
+        private void runScenario(String scenario) throws IOException, InterruptedException {
+            switch (scenario) {
+                case "feed" -> {
+                    JsonNode page = get("GET /api/posts/public/cursor", "/api/posts/public/cursor?size=20");
+                    // 세 번 중 한 번은 다음 페이지까지 스크롤
+                    if (page != null && page.hasNonNull("nextCursor") && random.nextInt(3) == 0) {
+                        get("GET /api/posts/public/cursor (next)",
+                                "/api/posts/public/cursor?size=20&cursor=" + encode(page.get("nextCursor").asText()));
+                    }
+                }
+                case "post" -> {
+                    long postId = randomPostId();
+                    get("GET /api/posts/{id}", "/api/posts/" + postId);
+                    get("GET /api/comments/post/{postId}", "/api/comments/post/" + postId);
+                }
+                case "search" -> {
+                    String keyword = LoadTestData.KEYWORDS.get(random.nextInt(LoadTestData.KEYWORDS.size()));
+                    get("GET /api/posts/search", "/api/posts/search?size=20&keyword=" + encode(keyword));
+                }
+                case "like" -> {
+                    long postId = randomPostId();
+                    HttpRequest.Builder builder = request("/api/posts/" + postId + "/like", token);
+                    if (random.nextBoolean()) {
+                        send("POST /api/posts/{id}/like", builder.POST(HttpRequest.BodyPublishers.noBody()));
+                    } else {
+                        send("DELETE /api/posts/{id}/like", builder.DELETE());
+                    }
+                }
+                case "notification" -> get("GET /api/notifications/my/unread/count", "/api/notifications/my/unread/count");
+                case "upload" -> upload();
+                case "chat" -> chat();
+                default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+            }
+        }
+
+        // 같은 내용이 중복 제거되지 않도록 앞 8바이트에 일련번호를 넣어 매번 다른 파일로 업로드
+        private void upload() throws IOException, InterruptedException {
+            long n = sequence.incrementAndGet();
+            byte[] payload = uploadPayload.clone();
+            for (int i = 0; i < Math.min(8, payload.length); i++) {
+                payload[i] = (byte) (n >>> (8 * i));
+            }
+            send("PUT /api/files/stream", request("/api/files/stream?fileName=loadtest-" + n + ".bin", token)
+                    .header("Content-Type", "application/octet-stream")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(payload)));
+        }
+
+        private void chat() throws InterruptedException {
+            String endpoint = "STOMP /app/chat/{roomId} (echo)";
+            if (roomIds.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                if (chatClient == null) {
+                    chatClient = StompChatClient.connect(httpClient, options.baseUrl, token, roomIds.get(index % roomIds.size()));
+                    start = System.nanoTime();
+                }
+                success = chatClient.sendAndAwaitEcho("lt-" + index + "-" + sequence.incrementAndGet(), 5_000);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                success = false;
+                chatClient = null;
+            }
+            record(endpoint, start, success);
+        }
+
+        private JsonNode get(String endpoint, String path) throws IOException, InterruptedException {
+            HttpResponse<byte[]> response = send(endpoint, request(path, token).GET());
+            if (response == null || response.statusCode() != 200) {
+                return null;
+            }
+            return objectMapper.readTree(response.body());
+        }
+
+        private HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response;
+            try {
+                response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                record(endpoint, start, false);
+                throw e;
+            }
+            record(endpoint, start, response.statusCode() < 400);
+            return response;
+        }
+
+        private void record(String endpoint, long startNanos, boolean success) {
+            if (startNanos >= measureFromNanos && startNanos < deadlineNanos) {
+                recorder.record(endpoint, System.nanoTime() - startNanos, success);
+            }
+        }
+
+        private long randomPostId() {
+            return 1 + random.nextLong(postCount);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
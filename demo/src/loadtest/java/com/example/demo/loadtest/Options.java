@@ -0,0 +1,106 @@
+package com.example.demo.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 발생기 설정. 인자는 key=value 형식이며 지정하지 않은 값은 기본값을 사용한다.
+ * mix 는 "시나리오:가중치" 목록 (feed, post, search, like, chat, notification, upload).
+ */
+class Options {
+
+    String baseUrl = "http://localhost:8080";
+    int users = 200;
+    int concurrency = 64;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(60);
+    Mix mix = Mix.parse("feed:40,post:20,search:10,like:10,chat:10,notification:5,upload:5");
+    int uploadBytes = 64 * 1024;
+    long seed = 1;
+    String report = "build/loadtest/report.json";
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            switch (key) {
+                case "baseUrl" -> options.baseUrl = value.replaceAll("/+$", "");
+                case "users" -> options.users = Integer.parseInt(value);
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "warmup" -> options.warmup = parseDuration(value);
+                case "duration" -> options.duration = parseDuration(value);
+                case "mix" -> options.mix = Mix.parse(value);
+                case "uploadBytes" -> options.uploadBytes = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "report" -> options.report = value;
+                default -> throw new IllegalArgumentException("알 수 없는 설정: " + key);
+            }
+        }
+        return options;
+    }
+
+    // 30s, 2m 또는 초 단위 숫자
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    @Override
+    public String toString() {
+        return "baseUrl=" + baseUrl + " users=" + users + " concurrency=" + concurrency + " warmup=" + warmup.toSeconds()
+                + "s duration=" + duration.toSeconds() + "s mix=" + mix + " uploadBytes=" + uploadBytes + " seed=" + seed;
+    }
+
+    record Mix(Map<String, Integer> weights, int total) {
+
+        static Mix parse(String value) {
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            int total = 0;
+            for (String entry : value.split(",")) {
+                String[] parts = entry.trim().split(":");
+                int weight = Integer.parseInt(parts[1]);
+                if (weight > 0) {
+                    weights.put(parts[0], weight);
+                    total += weight;
+                }
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("mix 에 실행할 시나리오가 없습니다: " + value);
+            }
+            return new Mix(weights, total);
+        }
+
+        String pick(SplittableRandom random) {
+            int target = random.nextInt(total);
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                target -= entry.getValue();
+                if (target < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            weights.forEach((name, weight) -> builder.append(builder.isEmpty() ? "" : ",").append(name).append(':').append(weight));
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 부하 테스트용 최소 STOMP 클라이언트 (SockJS 엔드포인트의 순수 WebSocket 경로 /ws/websocket 사용).
+ * 채팅방 토픽을 구독한 뒤 메시지를 보내고, 자신이 보낸 메시지가 브로드캐스트로 돌아올 때까지를 왕복 시간으로 잰다.
+ */
+class StompChatClient implements WebSocket.Listener {
+
+    private static final char NULL = '\0';
+
+    private final Map<String, CompletableFuture<Void>> awaiting = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final StringBuilder partial = new StringBuilder();
+    private final long roomId;
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private WebSocket webSocket;
+
+    private StompChatClient(long roomId) {
+        this.roomId = roomId;
+    }
+
+    static StompChatClient connect(HttpClient httpClient, String baseUrl, String token, long roomId) throws Exception {
+        StompChatClient client = new StompChatClient(roomId);
+        String wsUrl = baseUrl.replaceFirst("^http", "ws") + "/ws/websocket";
+        client.webSocket = httpClient.newWebSocketBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .buildAsync(URI.create(wsUrl), client)
+                .get(10, TimeUnit.SECONDS);
+        client.send("CONNECT\naccept-version:1.2\nhost:localhost\nheart-beat:0,0\nAuthorization:Bearer " + token + "\n\n");
+        client.connected.get(10, TimeUnit.SECONDS);
+        client.send("SUBSCRIBE\nid:sub-0\ndestination:/topic/room/" + roomId + "\n\n");
+        return client;
+    }
+
+    /**
+     * 메시지를 보내고 같은 내용이 구독 채널로 돌아오면 반환한다. 시간 안에 돌아오지 않으면 false.
+     * nonce 는 이 클라이언트가 보낸 메시지를 다른 사용자의 메시지와 구분하는 데 쓴다.
+     */
+    boolean sendAndAwaitEcho(String nonce, long timeoutMillis) throws InterruptedException {
+        CompletableFuture<Void> echo = new CompletableFuture<>();
+        awaiting.put(nonce, echo);
+        String body = "{\"content\":\"" + nonce + "\",\"roomId\":" + roomId + "}";
+        try {
+            send("SEND\ndestination:/app/chat/" + roomId + "\ncontent-type:application/json\n\n" + body);
+            echo.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                throw (InterruptedException) e;
+            }
+            return false;
+        } finally {
+            awaiting.remove(nonce);
+        }
+    }
+
+    void close() {
+        if (webSocket != null) {
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done");
+        }
+    }
+
+    // 같은 WebSocket 에 동시에 여러 프레임을 보낼 수 없으므로 직렬화
+    // (synchronized 안에서 대기하면 가상 스레드가 캐리어 스레드를 붙잡으므로 ReentrantLock 사용)
+    private void send(String frame) {
+        sendLock.lock();
+        try {
+            webSocket.sendText(frame + NULL, true).join();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        int end;
+        while ((end = partial.indexOf(String.valueOf(NULL))) >= 0) {
+            String frame = partial.substring(0, end);
+            partial.delete(0, end + 1);
+            handleFrame(frame.stripLeading());
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        connected.completeExceptionally(error);
+        awaiting.values().forEach(future -> future.completeExceptionally(error));
+    }
+
+    private void handleFrame(String frame) {
+        if (frame.startsWith("CONNECTED")) {
+            connected.complete(null);
+        } else if (frame.startsWith("ERROR")) {
+            connected.completeExceptionally(new IllegalStateException(frame));
+        } else if (frame.startsWith("MESSAGE")) {
+            String body = frame.substring(frame.indexOf("\n\n") + 2);
+            for (Map.Entry<String, CompletableFuture<Void>> entry : awaiting.entrySet()) {
+                if (body.contains(entry.getKey())) {
+                    entry.getValue().complete(null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 계산 비용이 큰 값 하나를 보관하는 stale-while-revalidate 캐시.
+ * ttl 이 지나면 기존 값을 그대로 응답하면서 백그라운드에서 다시 계산하고,
+ * 값이 없거나 max-stale 보다 오래되었으면 호출한 스레드가 갱신 완료를 기다린다.
+ * 동시에 여러 요청이 갱신을 유발해도 계산은 한 번만 수행된다(single-flight).
+ * 갱신마다 소요 시간과 성공 여부를 RefreshListener 로 알린다(지표 등록은 MetricsConfig).
+ */
+@Slf4j
+public class SnapshotCache<T> {
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final long ttlMillis;
+    private final long maxStaleMillis;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<CompletableFuture<Snapshot<T>>> inFlight = new AtomicReference<>();
+    private volatile Snapshot<T> current;
+    private volatile RefreshListener refreshListener = (elapsedNanos, success) -> { };
+
+    public SnapshotCache(String name, Supplier<T> loader, long ttlMillis, long maxStaleMillis, Executor refreshExecutor) {
+        this.name = name;
+        this.loader = loader;
+        this.ttlMillis = ttlMillis;
+        this.maxStaleMillis = Math.max(ttlMillis, maxStaleMillis);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public Snapshot<T> get() {
+        Snapshot<T> snapshot = current;
+        long age = snapshot != null ? snapshot.ageMillis() : Long.MAX_VALUE;
+        if (age > maxStaleMillis) {
+            return await(refresh());
+        }
+        if (age > ttlMillis) {
+            // 오래된 값을 먼저 응답하고 갱신은 백그라운드에서
+            refresh();
+        }
+        return snapshot;
+    }
+
+    // 진행 중인 갱신이 있으면 그 결과를 공유하고, 없으면 새로 시작
+    public CompletableFuture<Snapshot<T>> refresh() {
+        while (true) {
+            CompletableFuture<Snapshot<T>> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot<T>> future = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, future)) {
+                continue;
+            }
+            try {
+                refreshExecutor.execute(() -> load(future));
+            } catch (RejectedExecutionException e) {
+                inFlight.compareAndSet(future, null);
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+    }
+
+    public void setRefreshListener(RefreshListener refreshListener) {
+        this.refreshListener = refreshListener;
+    }
+
+    private void load(CompletableFuture<Snapshot<T>> future) {
+        long start = System.nanoTime();
+        try {
+            Snapshot<T> snapshot = new Snapshot<>(loader.get(), System.currentTimeMillis());
+            current = snapshot;
+            long elapsedNanos = System.nanoTime() - start;
+            refreshListener.onRefresh(elapsedNanos, true);
+            log.debug("{} 갱신 완료: {}ms", name, elapsedNanos / 1_000_000);
+            inFlight.compareAndSet(future, null);
+            future.complete(snapshot);
+        } catch (Throwable e) {
+            refreshListener.onRefresh(System.nanoTime() - start, false);
+            log.warn("{} 갱신 실패: {}", name, e.getMessage());
+            inFlight.compareAndSet(future, null);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private Snapshot<T> await(CompletableFuture<Snapshot<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(name + " 갱신 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface RefreshListener {
+        void onRefresh(long elapsedNanos, boolean success);
+    }
+
+    public record Snapshot<T>(T value, long generatedAtMillis) {
+
+        public long ageMillis() {
+            return Math.max(0, System.currentTimeMillis() - generatedAtMillis);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키(엔티티 ID 등)별 증감분을 메모리에 모아두는 버퍼.
+ * 주기적인 flush 작업이 drain() 으로 누적분을 가져가 DB 에 일괄 반영한다.
+ * 쓰기는 맵에 있는 LongAdder 에 바로 더하고(같은 키에 몰린 쓰기가 서로 막지 않도록), drain 만 compute 로 키를 제거한다.
+ * drain 이 그 사이 LongAdder 를 맵에서 뺐다면 쓰기 쪽이 이를 알아채고 남은 값을 새 LongAdder 로 옮기므로 증가분이 유실되지 않는다.
+ */
+public class DeltaBuffer<K> {
+
+    private final ConcurrentHashMap<K, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        if (delta == 0) return;
+        LongAdder adder = deltas.get(key);
+        if (adder == null) {
+            adder = deltas.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.add(delta);
+        if (deltas.get(key) != adder) {
+            // drain 이 변화 없는 키로 보고 제거한 LongAdder 에 더해짐: drain 이 가져가지 못한 값을 다시 반영
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                add(key, orphaned);
+            }
+        }
+    }
+
+    public void increment(K key) {
+        add(key, 1);
+    }
+
+    public long pending(K key) {
+        LongAdder adder = deltas.get(key);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long pendingTotal() {
+        long total = 0;
+        for (LongAdder adder : deltas.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public int pendingKeys() {
+        return deltas.size();
+    }
+
+    // 초기화하지 않고 현재 누적된 증감분만 조회
+    public Map<K, Long> snapshot() {
+        Map<K, Long> snapshot = new HashMap<>();
+        deltas.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                snapshot.put(key, delta);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * 누적된 증감분을 가져오고 0 으로 초기화한다.
+     * 직전 drain 이후 변화가 없었던 키는 맵에서 제거해 메모리가 무한히 늘어나지 않도록 한다.
+     */
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        for (K key : deltas.keySet()) {
+            deltas.computeIfPresent(key, (k, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta == 0) {
+                    return null;
+                }
+                drained.put(k, delta);
+                return adder;
+            });
+        }
+        return drained;
+    }
+
+    /**
+     * flush 실패 시 drain 했던 증감분을 되돌려 다음 주기에 재시도되도록 한다.
+     */
+    public void restore(Map<K, Long> drained) {
+        drained.forEach(this::add);
+    }
+}
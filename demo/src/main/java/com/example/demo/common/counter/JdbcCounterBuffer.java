@@ -0,0 +1,120 @@
+package com.example.demo.common.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테이블의 카운터 컬럼을 write-behind 로 갱신하는 버퍼의 공통 구현.
+ * 하위 클래스는 @Scheduled 를 붙인 flush() 를 재정의해 주기만 정하면 된다.
+ * 배치 UPDATE 는 한 트랜잭션으로 실행해, 실패하면 전부 롤백되고 drain 한 증감분 전체를 되돌려도 중복 반영되지 않는다.
+ */
+@Slf4j
+public abstract class JdbcCounterBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String name;
+    private final String flushSql;
+
+    private final DeltaBuffer<Long> buffer = new DeltaBuffer<>();
+    private final LongAdder flushedTotal = new LongAdder();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    protected JdbcCounterBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                String name, String table, String column) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.name = name;
+        this.flushSql = "UPDATE " + table + " SET " + column + " = " + column + " + ? WHERE id = ?";
+    }
+
+    public void add(Long id, long delta) {
+        buffer.add(id, delta);
+    }
+
+    public void increment(Long id) {
+        buffer.increment(id);
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에만 반영 (롤백된 변경이 카운터에 남지 않도록)
+    public void addAfterCommit(Long id, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(id, delta);
+            }
+        });
+    }
+
+    // 아직 DB 에 반영되지 않은 증감분
+    public long getPending(Long id) {
+        return buffer.pending(id);
+    }
+
+    public long getPendingDelta() {
+        return buffer.pendingTotal();
+    }
+
+    public int getPendingKeyCount() {
+        return buffer.pendingKeys();
+    }
+
+    public long getFlushedTotal() {
+        return flushedTotal.sum();
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    public void flush() {
+        Map<Long, Long> drained = buffer.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<Object[]> batchArgs = new ArrayList<>(drained.size());
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : drained.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+            total += entry.getValue();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(flushSql, batchArgs));
+            flushedTotal.add(total);
+            lastFlushMillis.set(System.currentTimeMillis() - start);
+            log.debug("{} flush 완료: 대상 {}개, 증감 {}건, {}ms",
+                    name, drained.size(), total, lastFlushMillis.get());
+        } catch (Exception e) {
+            failedFlushes.incrementAndGet();
+            buffer.restore(drained);
+            log.error("{} flush 실패, 다음 주기에 재시도합니다: {}", name, e.getMessage());
+        }
+    }
+
+    protected void flushOnShutdown() {
+        log.info("종료 전 {} flush: 대기 중인 증감 {}건", name, getPendingDelta());
+        flush();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.common.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티(또는 조회 결과)를 응답 DTO 로 변환하는 매퍼.
+ * 구현체는 getter/builder 를 직접 호출하는 일반 코드로 작성해 리플렉션 없이 변환한다.
+ */
+public interface Mapper<S, T> {
+
+    T map(S source);
+
+    // 목록 변환 - 결과 크기를 미리 잡아 스트림/컬렉터 없이 변환
+    default List<T> mapAll(List<? extends S> sources) {
+        List<T> results = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            results.add(map(source));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 핸들러가 정해진 뒤 요청의 endpoint 태그를 "GET /api/posts/{id}" 형태(경로 패턴)로 정하고,
+ * 핸들러에 @QueryBudget 이 있으면 요청의 쿼리 예산으로 설정한다.
+ * 실제 경로 대신 패턴을 쓰므로 ID 별로 시계열이 늘어나지 않는다.
+ */
+public class EndpointTagInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            metrics.setEndpoint(request.getMethod() + " " + pattern);
+        }
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                metrics.setQueryBudget(budget.value());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스/리포지토리/JWT 검증 계측.
+ * - modules.*.service 의 @Service 메서드 실행 시간 (service.method, class/method/endpoint/exception 태그)
+ * - Spring Data 리포지토리 호출 수 (요청 단위로 모아 RequestMetricsFilter 가 repository.calls 로 기록)
+ * - JwtTokenProvider.parseClaims 시간 (요청 안이면 endpoint 가 정해진 뒤 기록)
+ * 같은 빈 안의 자기 호출은 프록시를 거치지 않으므로 측정되지 않는다.
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> serviceTimer;
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.serviceTimer = Timer.builder("service.method")
+                .description("서비스 메서드 실행 시간")
+                .withRegistry(meterRegistry);
+    }
+
+    // 지표 게이지/설정값 getter 는 스크레이프나 매 요청마다 불리므로 서비스 시간에서 제외
+    @Pointcut("execution(* com.example.demo.modules.file.service.ImageDerivativeService.getPendingCount())"
+            + " || execution(* com.example.demo.modules.statistics.service.StatisticsService.getDashboardCache())"
+            + " || execution(* com.example.demo.modules.file.service.FileService.getMaxStreamUploadSize())")
+    void untimedGetter() {
+    }
+
+    @Around("within(com.example.demo.modules..service..*) && @within(org.springframework.stereotype.Service)"
+            + " && !untimedGetter()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(serviceTimer.withTags(Tags.of(
+                    "class", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    "method", joinPoint.getSignature().getName(),
+                    "endpoint", RequestMetrics.currentEndpoint(),
+                    "exception", exception)));
+        }
+    }
+
+    // 리포지토리 인터페이스와 상속받은 JpaRepository 메서드(findById, save 등) 모두 포함
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object countRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.incrementRepositoryCalls();
+        }
+        return joinPoint.proceed();
+    }
+
+    @Around("execution(* com.example.demo.security.JwtTokenProvider.parseClaims(..))")
+    public Object timeJwtValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object claims = joinPoint.proceed();
+        long elapsed = System.nanoTime() - start;
+
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.recordJwtValidation(elapsed, claims != null);
+        } else {
+            RequestMetricsRecorder.jwtValidationTimer(meterRegistry, RequestMetrics.NO_ENDPOINT, claims != null)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        return claims;
+    }
+}
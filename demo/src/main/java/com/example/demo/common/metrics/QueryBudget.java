@@ -0,0 +1,20 @@
+package com.example.demo.common.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드가 요청 하나에서 실행해도 되는 최대 SQL 수 (JPA/Hibernate 경유 쿼리 기준).
+ * 초과하면 요청이 끝날 때 경고를 남기고, query.budget.enforce=true(테스트 프로파일)이면 초과한 쿼리에서 바로 실패시키고,
+ * 핸들러가 그 예외를 잡더라도 RequestMetricsFilter 가 요청을 실패시킨다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int value();
+}
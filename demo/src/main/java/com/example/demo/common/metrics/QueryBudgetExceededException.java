@@ -0,0 +1,11 @@
+package com.example.demo.common.metrics;
+
+/**
+ * query.budget.enforce=true 일 때 요청의 SQL 수가 @QueryBudget 을 넘으면 발생.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
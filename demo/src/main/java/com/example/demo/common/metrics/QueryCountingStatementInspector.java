@@ -0,0 +1,42 @@
+package com.example.demo.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate 가 실행하는 모든 SQL 을 현재 요청(RequestMetrics)에 기록한다. SQL 자체는 바꾸지 않는다.
+ * 같은 형태의 SQL 이 반복되면 요청이 끝날 때 N+1 로 보고하며, IN 목록 길이만 다른 쿼리는 같은 형태로 본다.
+ * JdbcTemplate 으로 직접 실행하는 SQL(카운터 flush, 채팅 저장 등)은 Hibernate 를 거치지 않아 포함되지 않는다.
+ */
+@Component
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private final boolean enforceBudget;
+
+    public QueryCountingStatementInspector(@Value("${query.budget.enforce:false}") boolean enforceBudget) {
+        this.enforceBudget = enforceBudget;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            return sql;
+        }
+        int count = metrics.recordStatement(shapeOf(sql));
+        if (enforceBudget && metrics.isOverQueryBudget()) {
+            throw new QueryBudgetExceededException("쿼리 예산 초과: " + metrics.getEndpoint()
+                    + " (" + count + " > " + metrics.getQueryBudget() + "): " + sql);
+        }
+        return sql;
+    }
+
+    static String shapeOf(String sql) {
+        return sql.indexOf(',') >= 0 ? PARAMETER_LIST.matcher(sql).replaceAll("?...") : sql;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.common.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나 동안 모으는 지표 (요청 스레드의 ThreadLocal 에 보관).
+ * HTTP 요청은 RequestMetricsFilter, STOMP 메시지는 StompMetricsChannelInterceptor 가 처리 시작/종료 시 만들고 지우며,
+ * 그 밖(스케줄러, 비동기 작업)에서는 없다.
+ * 핸들러가 정해지기 전에 측정한 값(JWT 검증 등)은 여기 모아 두었다가 endpoint 가 정해진 뒤 기록한다.
+ */
+public final class RequestMetrics {
+
+    // 핸들러가 정해지지 않은 지표의 endpoint 태그 (요청 밖, 핸들러를 찾지 못했거나 인증 실패로 핸들러까지 가지 못한 요청)
+    public static final String NO_ENDPOINT = "none";
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private String endpoint = NO_ENDPOINT;
+    private int repositoryCalls;
+    private long jwtValidationNanos = -1;
+    private boolean jwtValid;
+
+    // 실행한 SQL 수와 같은 형태의 SQL 별 실행 횟수 (N+1 탐지용)
+    private int statementCount;
+    private final Map<String, Integer> statementShapes = new HashMap<>();
+    // 핸들러에 선언된 쿼리 예산 (없으면 -1)
+    private int queryBudget = -1;
+
+    private RequestMetrics() {
+    }
+
+    static RequestMetrics begin() {
+        return begin(NO_ENDPOINT);
+    }
+
+    static RequestMetrics begin(String endpoint) {
+        RequestMetrics metrics = new RequestMetrics();
+        metrics.endpoint = endpoint;
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // 현재 스레드가 처리 중인 요청의 지표 (요청 밖이면 null)
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static String currentEndpoint() {
+        RequestMetrics metrics = CURRENT.get();
+        return metrics != null ? metrics.endpoint : NO_ENDPOINT;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int getRepositoryCalls() {
+        return repositoryCalls;
+    }
+
+    void incrementRepositoryCalls() {
+        repositoryCalls++;
+    }
+
+    long getJwtValidationNanos() {
+        return jwtValidationNanos;
+    }
+
+    boolean isJwtValid() {
+        return jwtValid;
+    }
+
+    void recordJwtValidation(long nanos, boolean valid) {
+        this.jwtValidationNanos = nanos;
+        this.jwtValid = valid;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    Map<String, Integer> getStatementShapes() {
+        return statementShapes;
+    }
+
+    // 실행한 SQL 을 기록하고 지금까지의 SQL 수를 반환
+    int recordStatement(String shape) {
+        statementShapes.merge(shape, 1, Integer::sum);
+        return ++statementCount;
+    }
+
+    public int getQueryBudget() {
+        return queryBudget;
+    }
+
+    void setQueryBudget(int queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    // @QueryBudget 이 선언되어 있고 실행한 SQL 수가 그보다 많은지
+    public boolean isOverQueryBudget() {
+        return queryBudget >= 0 && statementCount > queryBudget;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.common.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 RequestMetrics 를 열고, 요청이 끝나면 RequestMetricsRecorder 로 endpoint 별 지표를 기록한다.
+ * Spring Security 필터보다 먼저 실행되어야 JWT 검증 시간과 인증 중 실행한 SQL 도 같은 요청에 묶인다.
+ * query.budget.enforce=true 이면 컨트롤러가 QueryBudgetExceededException 을 RuntimeException 으로 잡아
+ * 정상 응답으로 바꾸더라도 요청이 끝난 뒤 다시 던져 예산 초과가 묻히지 않게 한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final RequestMetricsRecorder recorder;
+    private final boolean enforceBudget;
+
+    public RequestMetricsFilter(RequestMetricsRecorder recorder,
+                                @Value("${query.budget.enforce:false}") boolean enforceBudget) {
+        this.recorder = recorder;
+        this.enforceBudget = enforceBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestMetrics.end();
+            recorder.record(metrics);
+        }
+        if (enforceBudget && metrics.isOverQueryBudget()) {
+            throw new QueryBudgetExceededException("쿼리 예산 초과: " + metrics.getEndpoint()
+                    + " (" + metrics.getStatementCount() + " > " + metrics.getQueryBudget() + ")");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청(HTTP/STOMP)이 끝날 때 RequestMetrics 에 모은 값을 endpoint 태그로 기록한다.
+ * 같은 형태의 SQL 이 n-plus-one-threshold 번 이상 실행되었거나 @QueryBudget 을 넘었으면 경고 로그를 남긴다.
+ */
+@Component
+@Slf4j
+public class RequestMetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public RequestMetricsRecorder(MeterRegistry meterRegistry,
+                                  @Value("${query.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public void record(RequestMetrics metrics) {
+        String endpoint = metrics.getEndpoint();
+        DistributionSummary.builder("repository.calls")
+                .description("요청 하나에서 호출한 리포지토리 메서드 수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(metrics.getRepositoryCalls());
+        DistributionSummary.builder("sql.statements")
+                .description("요청 하나에서 실행한 SQL 수 (Hibernate 경유)")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(metrics.getStatementCount());
+        if (metrics.getJwtValidationNanos() >= 0) {
+            jwtValidationTimer(meterRegistry, endpoint, metrics.isJwtValid())
+                    .record(metrics.getJwtValidationNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        for (Map.Entry<String, Integer> shape : metrics.getStatementShapes().entrySet()) {
+            if (shape.getValue() >= nPlusOneThreshold) {
+                Counter.builder("sql.n_plus_one")
+                        .description("같은 형태의 SQL 이 반복 실행된 요청 수")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("N+1 의심: {} 에서 같은 쿼리 {}회 실행 (요청 전체 {}건): {}",
+                        endpoint, shape.getValue(), metrics.getStatementCount(), shape.getKey());
+            }
+        }
+        if (metrics.isOverQueryBudget()) {
+            Counter.builder("sql.budget.exceeded")
+                    .description("@QueryBudget 을 넘은 요청 수")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("쿼리 예산 초과: {} 에서 SQL {}건 실행 (예산 {}건)",
+                    endpoint, metrics.getStatementCount(), metrics.getQueryBudget());
+        }
+    }
+
+    static Timer jwtValidationTimer(MeterRegistry meterRegistry, String endpoint, boolean valid) {
+        return Timer.builder("jwt.validation")
+                .description("JWT 파싱/서명 검증 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", valid ? "valid" : "invalid")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.common.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 메시지를 @MessageMapping 핸들러가 처리하는 동안 RequestMetrics 를 열어, HTTP 요청과 같은 방식으로
+ * 서비스 시간/SQL 수/N+1 을 기록한다. endpoint 는 "STOMP /app/chat/{id}" 형태 (숫자 경로는 {id} 로 치환).
+ */
+@Component
+public class StompMetricsChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final RequestMetricsRecorder recorder;
+
+    public StompMetricsChannelInterceptor(RequestMetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        // 클라이언트가 보낸 메시지(SEND)만 측정 (SUBSCRIBE 등 제어 프레임 제외)
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (handler instanceof SimpAnnotationMethodMessageHandler && destination != null
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            RequestMetrics.begin("STOMP " + NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}"));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (handler instanceof SimpAnnotationMethodMessageHandler && metrics != null
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            RequestMetrics.end();
+            recorder.record(metrics);
+        }
+    }
+}
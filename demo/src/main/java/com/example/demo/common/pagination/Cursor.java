@@ -0,0 +1,43 @@
+package com.example.demo.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기반 keyset 페이지네이션 커서.
+ * 클라이언트에는 Base64 로 인코딩된 불투명한 문자열로만 노출된다.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청(커서 없음)이면 null 을 반환
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+        }
+    }
+
+    public static LocalDateTime createdAtOf(Cursor cursor) {
+        return cursor != null ? cursor.createdAt() : null;
+    }
+
+    public static Long idOf(Cursor cursor) {
+        return cursor != null ? cursor.id() : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${statistics.dashboard.query-parallelism:4}")
+    private int statisticsQueryParallelism;
+
+    @Value("${file.image.worker-threads:2}")
+    private int imageWorkerThreads;
+
+    @Value("${file.image.queue-capacity:256}")
+    private int imageQueueCapacity;
+
+    // 통계 집계 쿼리 병렬 실행용 (커넥션 풀을 독점하지 않도록 크기 제한, 넘치면 호출 스레드에서 실행)
+    @Bean
+    public ThreadPoolTaskExecutor statisticsQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(statisticsQueryParallelism);
+        executor.setMaxPoolSize(statisticsQueryParallelism);
+        executor.setQueueCapacity(64);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("statistics-query-");
+        return executor;
+    }
+
+    // 대시보드 스냅샷 백그라운드 갱신용 (single-flight 이므로 스레드 하나면 충분)
+    @Bean
+    public ThreadPoolTaskExecutor statisticsRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("statistics-refresh-");
+        return executor;
+    }
+
+    // 이미지 파생본 생성용 (CPU/메모리를 많이 쓰므로 스레드와 대기열을 제한, 넘치면 거부)
+    @Bean
+    public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageWorkerThreads);
+        executor.setMaxPoolSize(imageWorkerThreads);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        return executor;
+    }
+}
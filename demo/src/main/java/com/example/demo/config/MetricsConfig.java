@@ -0,0 +1,149 @@
+package com.example.demo.config;
+
+import com.example.demo.common.counter.JdbcCounterBuffer;
+import com.example.demo.common.metrics.EndpointTagInterceptor;
+import com.example.demo.common.metrics.QueryCountingStatementInspector;
+import com.example.demo.modules.chat.service.ChatHistoryBuffer;
+import com.example.demo.modules.chat.service.ChatMessageWriter;
+import com.example.demo.modules.file.service.ImageDerivativeService;
+import com.example.demo.modules.statistics.service.StatisticsService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 지표 (Prometheus: /actuator/prometheus).
+ * HTTP 요청, JVM, Hikari 커넥션 풀(hikaricp.*), Tomcat 지표는 Actuator 가 자동으로 등록하고,
+ * 여기서는 endpoint 태그용 인터셉터, 요청별 SQL 수를 세는 StatementInspector, 각 모듈의 버퍼/대기열/캐시 게이지를 등록한다.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointTagInterceptor());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(QueryCountingStatementInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    // write-behind 카운터 버퍼 (조회수/좋아요 수/다운로드 수), buffer 태그는 빈 이름
+    @Bean
+    public MeterBinder counterBufferMetrics(Map<String, JdbcCounterBuffer> buffers) {
+        return registry -> buffers.forEach((name, buffer) -> {
+            Gauge.builder("counter.buffer.pending.delta", buffer, JdbcCounterBuffer::getPendingDelta)
+                    .description("DB 에 아직 반영되지 않은 증감 합계")
+                    .tag("buffer", name)
+                    .register(registry);
+            Gauge.builder("counter.buffer.pending.keys", buffer, JdbcCounterBuffer::getPendingKeyCount)
+                    .description("반영 대기 중인 행 수")
+                    .tag("buffer", name)
+                    .register(registry);
+            Gauge.builder("counter.buffer.last.flush", buffer, JdbcCounterBuffer::getLastFlushMillis)
+                    .description("마지막 flush 소요 시간")
+                    .tag("buffer", name)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("counter.buffer.flushed", buffer, JdbcCounterBuffer::getFlushedTotal)
+                    .description("DB 에 반영한 증감 누계")
+                    .tag("buffer", name)
+                    .register(registry);
+            FunctionCounter.builder("counter.buffer.flush.failures", buffer, JdbcCounterBuffer::getFailedFlushes)
+                    .description("실패한 flush 횟수")
+                    .tag("buffer", name)
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder chatMetrics(ChatMessageWriter chatMessageWriter, ChatHistoryBuffer chatHistoryBuffer) {
+        return registry -> {
+            Gauge.builder("chat.ingest.queue.size", chatMessageWriter, ChatMessageWriter::getQueueSize)
+                    .description("저장 대기 중인 채팅 메시지 수")
+                    .register(registry);
+            FunctionCounter.builder("chat.ingest.persisted", chatMessageWriter, ChatMessageWriter::getPersistedCount)
+                    .description("저장한 채팅 메시지 수")
+                    .register(registry);
+            FunctionCounter.builder("chat.ingest.dropped", chatMessageWriter, ChatMessageWriter::getDroppedCount)
+                    .description("재시도 후에도 저장하지 못한 채팅 메시지 수")
+                    .register(registry);
+            FunctionCounter.builder("chat.history.requests", chatHistoryBuffer, ChatHistoryBuffer::getHitCount)
+                    .description("최근 메시지 조회 (메모리 버퍼 결과별)")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("chat.history.requests", chatHistoryBuffer, ChatHistoryBuffer::getMissCount)
+                    .description("최근 메시지 조회 (메모리 버퍼 결과별)")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("chat.history.requests", chatHistoryBuffer, ChatHistoryBuffer::getWarmCount)
+                    .description("최근 메시지 조회 (메모리 버퍼 결과별)")
+                    .tag("result", "warm")
+                    .register(registry);
+            Gauge.builder("chat.history.rooms", chatHistoryBuffer, ChatHistoryBuffer::getRoomCount)
+                    .description("메모리에 최근 메시지를 보관 중인 채팅방 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder imageDerivativeMetrics(ImageDerivativeService imageDerivativeService) {
+        return registry -> Gauge.builder("image.derivative.pending", imageDerivativeService,
+                        ImageDerivativeService::getPendingCount)
+                .description("생성 대기/진행 중인 이미지 파생본 작업 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder dashboardCacheMetrics(StatisticsService statisticsService) {
+        return registry -> {
+            Timer success = refreshTimer("success").register(registry);
+            Timer failure = refreshTimer("failure").register(registry);
+            statisticsService.getDashboardCache().setRefreshListener((elapsedNanos, succeeded) ->
+                    (succeeded ? success : failure).record(elapsedNanos, TimeUnit.NANOSECONDS));
+        };
+    }
+
+    private static Timer.Builder refreshTimer(String outcome) {
+        return Timer.builder("snapshot.cache.refresh")
+                .description("스냅샷 캐시 갱신 시간")
+                .tag("cache", "dashboard")
+                .tag("outcome", outcome);
+    }
+
+    // STOMP 인바운드(클라이언트 → 서버)/아웃바운드(서버 → 클라이언트) 채널 처리 대기열과 세션 수
+    @Bean
+    public MeterBinder stompMetrics(@Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                                    @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor,
+                                    WebSocketMessageBrokerStats brokerStats) {
+        return registry -> {
+            Map.of("inbound", inboundExecutor, "outbound", outboundExecutor).forEach((channel, executor) -> {
+                Gauge.builder("stomp.channel.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                        .description("처리를 기다리는 STOMP 메시지 수")
+                        .tag("channel", channel)
+                        .register(registry);
+                Gauge.builder("stomp.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                        .description("STOMP 메시지를 처리 중인 스레드 수")
+                        .tag("channel", channel)
+                        .register(registry);
+            });
+            Gauge.builder("stomp.sessions", brokerStats, s -> s.getWebSocketSessionStats().getTotalSessions())
+                    .description("연결된 WebSocket/SockJS 세션 수")
+                    .register(registry);
+        };
+    }
+}
@@ -54,6 +54,10 @@ public class SecurityConfig {
                     .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html", "/chat-test.html", "/test.html", "/index.html").permitAll()
                     .requestMatchers("/test/**", "/uploads/**").permitAll()
                     
+                    // 모니터링 - 헬스 체크는 공개, 지표(Prometheus 수집 등)는 관리자만
+                    .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+                    
                     // WebSocket 엔드포인트
                     .requestMatchers("/ws/**").permitAll()
                     
@@ -0,0 +1,23 @@
+package com.example.demo.loadtest;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 시드 데이터와 부하 발생기가 함께 쓰는 값.
+ * 시드 사용자는 모두 같은 비밀번호를 쓰고, 게시글 제목/본문은 검색 시나리오가 쓰는 단어로 만든다.
+ */
+public final class LoadTestData {
+
+    public static final String PASSWORD = "loadtest1234";
+
+    public static final List<String> KEYWORDS = List.of(
+            "삼성전자", "코스피", "나스닥", "배당", "반도체", "환율", "금리", "공모주",
+            "ETF", "비트코인", "실적", "외국인", "기관", "테슬라", "엔비디아", "2차전지");
+
+    private LoadTestData() {
+    }
+
+    public static String email(long index) {
+        return "loadtest" + index + "@example.com";
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.modules.chat.service.ChatMessageWriter;
+import com.example.demo.modules.notification.service.NotificationUnreadCounterService;
+import com.example.demo.modules.post.search.PostSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * loadtest 프로파일 기동 시 부하 테스트용 데이터를 JDBC 배치 INSERT 로 채운다.
+ * 같은 seed 로는 항상 같은 데이터가 만들어지므로 실행 간 결과를 비교할 수 있다.
+ * 엔티티/이벤트를 거치지 않으므로 검색 인덱스와 읽지 않은 알림 카운터는 마지막에 다시 만든다.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] CATEGORY_COLORS = {"#e53935", "#1e88e5", "#43a047", "#fb8c00", "#8e24aa"};
+    private static final String[] FILLER = {
+            "오늘", "시장", "상승", "하락", "매수", "매도", "전망", "분석", "거래량", "차트",
+            "지지선", "저항선", "수익", "손절", "장기", "단기", "포트폴리오", "뉴스", "발표", "기대"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ChatMessageWriter chatMessageWriter;
+    private final PostSearchService postSearchService;
+    private final NotificationUnreadCounterService unreadCounterService;
+    private final int userCount;
+    private final int categoryCount;
+    private final int postCount;
+    private final int commentsPerPost;
+    private final int chatRoomCount;
+    private final int messagesPerRoom;
+    private final int notificationsPerUser;
+    private final long seed;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate,
+                              PasswordEncoder passwordEncoder,
+                              ChatMessageWriter chatMessageWriter,
+                              PostSearchService postSearchService,
+                              NotificationUnreadCounterService unreadCounterService,
+                              @Value("${loadtest.seed.users:2000}") int userCount,
+                              @Value("${loadtest.seed.categories:10}") int categoryCount,
+                              @Value("${loadtest.seed.posts:20000}") int postCount,
+                              @Value("${loadtest.seed.comments-per-post:5}") int commentsPerPost,
+                              @Value("${loadtest.seed.chat-rooms:50}") int chatRoomCount,
+                              @Value("${loadtest.seed.messages-per-room:200}") int messagesPerRoom,
+                              @Value("${loadtest.seed.notifications-per-user:20}") int notificationsPerUser,
+                              @Value("${loadtest.seed.random-seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.chatMessageWriter = chatMessageWriter;
+        this.postSearchService = postSearchService;
+        this.unreadCounterService = unreadCounterService;
+        this.userCount = userCount;
+        this.categoryCount = categoryCount;
+        this.postCount = postCount;
+        this.commentsPerPost = commentsPerPost;
+        this.chatRoomCount = chatRoomCount;
+        this.messagesPerRoom = messagesPerRoom;
+        this.notificationsPerUser = notificationsPerUser;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("부하 테스트 데이터가 이미 있어 시드를 건너뜁니다 (사용자 {}명)", existing);
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> userIds = seedUsers(now);
+        List<Long> categoryIds = seedCategories(now);
+        List<Long> postIds = seedPosts(random, now, userIds, categoryIds);
+        int comments = seedComments(random, now, userIds, postIds);
+        int messages = seedChat(random, now, userIds);
+        int notifications = seedNotifications(random, now, userIds, postIds);
+
+        unreadCounterService.reconcile();
+        try {
+            postSearchService.rebuildIndex();
+        } catch (RuntimeException e) {
+            log.warn("부하 테스트 검색 인덱스 생성 실패 (검색 시나리오는 JPA 검색으로 처리됨): {}", e.getMessage());
+        }
+
+        log.info("부하 테스트 데이터 생성 완료 ({}ms): 사용자 {}, 카테고리 {}, 게시글 {}, 댓글 {}, 채팅방 {}, 채팅 메시지 {}, 알림 {}",
+                System.currentTimeMillis() - startedAt, userIds.size(), categoryIds.size(), postIds.size(),
+                comments, chatRoomCount, messages, notifications);
+    }
+
+    private List<Long> seedUsers(LocalDateTime now) {
+        // BCrypt 는 느리므로 모든 사용자가 같은 해시를 공유
+        String passwordHash = passwordEncoder.encode(LoadTestData.PASSWORD);
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(90));
+        List<Object[]> rows = new ArrayList<>(userCount);
+        for (int i = 1; i <= userCount; i++) {
+            rows.add(new Object[]{LoadTestData.email(i), passwordHash, "사용자" + i, "trader" + i,
+                    "USER", true, createdAt, createdAt});
+        }
+        insert("INSERT INTO users (email, password, name, nickname, role, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return ids("users");
+    }
+
+    private List<Long> seedCategories(LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(90));
+        List<Object[]> rows = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            String keyword = LoadTestData.KEYWORDS.get(i % LoadTestData.KEYWORDS.size());
+            rows.add(new Object[]{keyword + " 게시판 " + (i + 1), keyword + " 이야기", CATEGORY_COLORS[i % CATEGORY_COLORS.length],
+                    true, createdAt, createdAt});
+        }
+        insert("INSERT INTO categories (name, description, color, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return ids("categories");
+    }
+
+    // 최근 30일에 고르게 분포하고, 본문은 목록/검색 비용이 현실적이도록 10~90 단어
+    private List<Long> seedPosts(SplittableRandom random, LocalDateTime now, List<Long> userIds, List<Long> categoryIds) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < postCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(random.nextLong(30L * 24 * 3600)));
+            rows.add(new Object[]{
+                    keyword(random) + " " + keyword(random) + " 전망 " + (i + 1),
+                    sentence(random, 10 + random.nextInt(80)),
+                    pick(random, userIds),
+                    random.nextInt(10) == 0 ? null : pick(random, categoryIds),
+                    random.nextInt(5_000), random.nextInt(200), true, createdAt, createdAt});
+            if (rows.size() == BATCH_SIZE) {
+                insertPosts(rows);
+                rows.clear();
+            }
+        }
+        insertPosts(rows);
+        return ids("posts");
+    }
+
+    private void insertPosts(List<Object[]> rows) {
+        insert("INSERT INTO posts (title, content, author_id, category_id, view_count, like_count, is_published, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 게시글마다 0 ~ 2*commentsPerPost 개의 최상위 댓글을 달고, 그중 일부에 답글을 단다
+    private int seedComments(SplittableRandom random, LocalDateTime now, List<Long> userIds, List<Long> postIds) {
+        String sql = "INSERT INTO comments (content, author_id, post_id, parent_id, like_count, is_deleted, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int total = 0;
+        for (Long postId : postIds) {
+            int count = random.nextInt(commentsPerPost * 2 + 1);
+            for (int i = 0; i < count; i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(random.nextLong(7L * 24 * 3600)));
+                rows.add(new Object[]{sentence(random, 3 + random.nextInt(15)), pick(random, userIds), postId, null,
+                        random.nextInt(20), false, createdAt, createdAt});
+            }
+            total += count;
+            if (rows.size() >= BATCH_SIZE) {
+                insert(sql, rows);
+                rows.clear();
+            }
+        }
+        insert(sql, rows);
+        rows.clear();
+
+        List<long[]> parents = jdbcTemplate.query("SELECT id, post_id FROM comments ORDER BY id",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        Timestamp replyAt = Timestamp.valueOf(now.minusHours(1));
+        for (long[] parent : parents) {
+            if (random.nextInt(3) != 0) {
+                continue;
+            }
+            rows.add(new Object[]{sentence(random, 2 + random.nextInt(8)), pick(random, userIds), parent[1], parent[0],
+                    random.nextInt(5), false, replyAt, replyAt});
+            total++;
+            if (rows.size() == BATCH_SIZE) {
+                insert(sql, rows);
+                rows.clear();
+            }
+        }
+        insert(sql, rows);
+        return total;
+    }
+
+    // 채팅 메시지 ID 는 저장기가 메모리에서 발급하므로 시드 메시지도 같은 발급기를 사용
+    private int seedChat(SplittableRandom random, LocalDateTime now, List<Long> userIds) {
+        Timestamp roomCreatedAt = Timestamp.valueOf(now.minusDays(30));
+        List<Object[]> rooms = new ArrayList<>(chatRoomCount);
+        for (int i = 1; i <= chatRoomCount; i++) {
+            rooms.add(new Object[]{keyword(random) + " 실시간 " + i, "부하 테스트 채팅방 " + i, "PUBLIC",
+                    pick(random, userIds), true, 1000, 0, roomCreatedAt, roomCreatedAt});
+        }
+        insert("INSERT INTO chat_rooms (name, description, type, creator_id, is_active, max_participants, " +
+                "current_participants, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rooms);
+
+        String sql = "INSERT INTO chat_messages (id, content, type, sender_id, chat_room_id, is_deleted, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int total = 0;
+        for (Long roomId : ids("chat_rooms")) {
+            LocalDateTime sentAt = now.minusMinutes(messagesPerRoom);
+            for (int i = 0; i < messagesPerRoom; i++) {
+                sentAt = sentAt.plusMinutes(1);
+                rows.add(new Object[]{chatMessageWriter.nextId(), sentence(random, 1 + random.nextInt(12)), "CHAT",
+                        pick(random, userIds), roomId, false, Timestamp.valueOf(sentAt)});
+                if (rows.size() == BATCH_SIZE) {
+                    insert(sql, rows);
+                    rows.clear();
+                }
+            }
+            total += messagesPerRoom;
+        }
+        insert(sql, rows);
+        return total;
+    }
+
+    // 절반 정도는 읽지 않은 상태로 남겨 읽지 않은 알림 조회/카운트 경로에도 부하가 가도록 함
+    private int seedNotifications(SplittableRandom random, LocalDateTime now, List<Long> userIds, List<Long> postIds) {
+        String sql = "INSERT INTO notifications (title, message, type, recipient_id, sender_id, related_entity_id, " +
+                "related_entity_type, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int total = 0;
+        for (Long recipientId : userIds) {
+            for (int i = 0; i < notificationsPerUser; i++) {
+                boolean comment = random.nextBoolean();
+                rows.add(new Object[]{comment ? "새 댓글" : "좋아요", comment ? "회원님의 게시글에 댓글이 달렸습니다" : "회원님의 게시글을 좋아합니다",
+                        comment ? "POST_COMMENT" : "POST_LIKE", recipientId, pick(random, userIds), pick(random, postIds),
+                        "POST", random.nextBoolean(), Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 14)))});
+                if (rows.size() == BATCH_SIZE) {
+                    insert(sql, rows);
+                    rows.clear();
+                }
+            }
+            total += notificationsPerUser;
+        }
+        insert(sql, rows);
+        return total;
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+    }
+
+    private static Long pick(SplittableRandom random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static String keyword(SplittableRandom random) {
+        return LoadTestData.KEYWORDS.get(random.nextInt(LoadTestData.KEYWORDS.size()));
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(i % 9 == 0 ? ". " : " ");
+            }
+            builder.append(i % 3 == 0 ? keyword(random) : FILLER[random.nextInt(FILLER.length)]);
+        }
+        return builder.append('.').toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.modules.category.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.category.dto.CategoryDto;
+import com.example.demo.modules.category.entity.Category;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryMapper implements Mapper<Category, CategoryDto.Response> {
+
+    // postCount 는 엔티티에 없는 값이라 채우지 않음
+    @Override
+    public CategoryDto.Response map(Category category) {
+        return CategoryDto.Response.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .color(category.getColor())
+                .isActive(category.getIsActive())
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .build();
+    }
+}
@@ -2,15 +2,14 @@ package com.example.demo.modules.category.service;
 
 import com.example.demo.modules.category.dto.CategoryDto;
 import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.category.mapper.CategoryMapper;
 import com.example.demo.modules.category.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +18,7 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
-    private final ModelMapper modelMapper;
+    private final CategoryMapper categoryMapper;
 
     public CategoryDto.Response createCategory(CategoryDto.CreateRequest request) {
         // 이름 중복 검사
@@ -36,7 +35,7 @@ public class CategoryService {
         Category savedCategory = categoryRepository.save(category);
         log.info("새 카테고리 생성됨: {}", savedCategory.getName());
 
-        return modelMapper.map(savedCategory, CategoryDto.Response.class);
+        return categoryMapper.map(savedCategory);
     }
 
     @Transactional(readOnly = true)
@@ -44,14 +43,12 @@ public class CategoryService {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + id));
 
-        return modelMapper.map(category, CategoryDto.Response.class);
+        return categoryMapper.map(category);
     }
 
     @Transactional(readOnly = true)
     public List<CategoryDto.Response> getAllActiveCategories() {
-        return categoryRepository.findAllActiveCategories().stream()
-                .map(category -> modelMapper.map(category, CategoryDto.Response.class))
-                .collect(Collectors.toList());
+        return categoryMapper.mapAll(categoryRepository.findAllActiveCategories());
     }
 
     public CategoryDto.Response updateCategory(Long id, CategoryDto.UpdateRequest request) {
@@ -78,7 +75,7 @@ public class CategoryService {
         Category updatedCategory = categoryRepository.save(category);
         log.info("카테고리 업데이트됨: {}", updatedCategory.getName());
 
-        return modelMapper.map(updatedCategory, CategoryDto.Response.class);
+        return categoryMapper.map(updatedCategory);
     }
 
     public void deleteCategory(Long id) {
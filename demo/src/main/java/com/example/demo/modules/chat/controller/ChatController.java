@@ -1,5 +1,7 @@
 package com.example.demo.modules.chat.controller;
 
+import com.example.demo.common.metrics.QueryBudget;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.modules.chat.dto.ChatDto;
 import com.example.demo.modules.chat.service.ChatService;
 import com.example.demo.security.UserPrincipal;
@@ -51,6 +53,7 @@ public class ChatController {
 
     @Operation(summary = "활성 채팅방 목록 조회", description = "모든 활성 채팅방 목록을 조회합니다.")
     @GetMapping("/rooms")
+    @QueryBudget(2)
     public ResponseEntity<ChatDto.RoomListResponse> getActiveChatRooms() {
         ChatDto.RoomListResponse response = chatService.getActiveChatRooms();
         return ResponseEntity.ok(response);
@@ -80,6 +83,20 @@ public class ChatController {
         }
     }
 
+    @Operation(summary = "채팅방 이전 메시지 조회 (커서)", description = "특정 채팅방의 메시지를 최신순 커서 기반으로 조회합니다. nextCursor 로 더 이전 메시지를 요청합니다.")
+    @GetMapping("/rooms/{roomId}/messages/cursor")
+    public ResponseEntity<CursorPage<ChatDto.MessageResponse>> getChatMessagesByCursor(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPage<ChatDto.MessageResponse> messages = chatService.getChatMessagesByCursor(roomId, cursor, size);
+            return ResponseEntity.ok(messages);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "최근 메시지 조회", description = "특정 시간 이후의 메시지를 조회합니다.")
     @GetMapping("/rooms/{roomId}/messages/recent")
     public ResponseEntity<List<ChatDto.MessageResponse>> getRecentMessages(
@@ -2,10 +2,12 @@ package com.example.demo.modules.chat.controller;
 
 import com.example.demo.modules.chat.dto.ChatDto;
 import com.example.demo.modules.chat.service.ChatService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
@@ -22,15 +24,15 @@ public class ChatWebSocketController {
     @SendTo("/topic/room/{roomId}")
     public ChatDto.MessageResponse sendMessage(
             @DestinationVariable Long roomId,
-            ChatDto.MessageRequest messageRequest) {
+            @Payload @Valid ChatDto.MessageRequest messageRequest) {
         
-        log.info("웹소켓 메시지 수신: Room {}, Content: {}", roomId, messageRequest.getContent());
+        log.debug("웹소켓 메시지 수신: Room {}, Content: {}", roomId, messageRequest.getContent());
         
         try {
-            // 메시지를 데이터베이스에 저장
+            // 메시지 ID/시간을 할당하고 저장 대기열에 등록한 뒤 바로 브로드캐스트
             ChatDto.MessageResponse savedMessage = chatService.saveMessage(messageRequest, 1L); // TODO: 실제 사용자 ID 사용
             
-            log.info("메시지 전송 완료: Room {}, Message ID: {}", roomId, savedMessage.getId());
+            log.debug("메시지 전송 완료: Room {}, Message ID: {}", roomId, savedMessage.getId());
             return savedMessage;
             
         } catch (Exception e) {
@@ -0,0 +1,24 @@
+package com.example.demo.modules.chat.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.chat.dto.ChatDto;
+import com.example.demo.modules.chat.entity.ChatMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChatMessageMapper implements Mapper<ChatMessage, ChatDto.MessageResponse> {
+
+    @Override
+    public ChatDto.MessageResponse map(ChatMessage message) {
+        return ChatDto.MessageResponse.builder()
+                .id(message.getId())
+                .content(message.getContent())
+                .type(message.getType())
+                .senderId(message.getSender().getId())
+                .senderNickname(message.getSender().getNickname())
+                .roomId(message.getChatRoom().getId())
+                .roomName(message.getChatRoom().getName())
+                .createdAt(message.getCreatedAt())
+                .build();
+    }
+}
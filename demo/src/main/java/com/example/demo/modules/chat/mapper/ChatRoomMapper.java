@@ -0,0 +1,27 @@
+package com.example.demo.modules.chat.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.chat.dto.ChatDto;
+import com.example.demo.modules.chat.entity.ChatRoom;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChatRoomMapper implements Mapper<ChatRoom, ChatDto.RoomResponse> {
+
+    @Override
+    public ChatDto.RoomResponse map(ChatRoom room) {
+        return ChatDto.RoomResponse.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .description(room.getDescription())
+                .type(room.getType())
+                .creatorId(room.getCreator().getId())
+                .creatorNickname(room.getCreator().getNickname())
+                .isActive(room.getIsActive())
+                .maxParticipants(room.getMaxParticipants())
+                .currentParticipants(room.getCurrentParticipants())
+                .createdAt(room.getCreatedAt())
+                .updatedAt(room.getUpdatedAt())
+                .build();
+    }
+}
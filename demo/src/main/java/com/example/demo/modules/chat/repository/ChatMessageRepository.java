@@ -1,6 +1,7 @@
 package com.example.demo.modules.chat.repository;
 
 import com.example.demo.modules.chat.entity.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -30,10 +31,31 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.sender.id = :senderId AND m.isDeleted = false")
     long countBySenderIdAndIsDeletedFalse(@Param("senderId") Long senderId);
     
+    // 커서(keyset) 페이지네이션 - 최신 메시지부터 과거 방향으로 (createdAt, id) 기준 조회
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.isDeleted = false AND " +
+           "(:cursorCreatedAt IS NULL OR (m.createdAt <= :cursorCreatedAt AND " +
+           "(m.createdAt < :cursorCreatedAt OR m.id < :cursorId))) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessage> findRoomHistory(
+            @Param("roomId") Long roomId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+    
     // 통계용 메서드
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     
     @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.isDeleted = false " +
            "ORDER BY m.createdAt DESC")
     List<ChatMessage> findTop50ByChatRoomIdAndIsDeletedFalseOrderByCreatedAtDesc(@Param("roomId") Long roomId, Pageable pageable);
-} 
\ No newline at end of file
+
+    // 최신 메시지 조회 (발신자/채팅방 함께 조회)
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender JOIN FETCH m.chatRoom " +
+           "WHERE m.chatRoom.id = :roomId AND m.isDeleted = false ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessage> findLatestWithSenderAndRoom(@Param("roomId") Long roomId, Limit limit);
+
+    // 메시지 ID 를 애플리케이션에서 발급하기 위한 시작값
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM ChatMessage m")
+    Long findMaxId();
+}
@@ -14,6 +14,8 @@ import java.util.Optional;
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
+    // 목록 응답에 생성자 닉네임이 포함되므로 생성자를 함께 조회 (채팅방마다 users 조회 방지)
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.creator WHERE r.isActive = true ORDER BY r.createdAt DESC")
     List<ChatRoom> findByIsActiveTrueOrderByCreatedAtDesc();
     
     Page<ChatRoom> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
@@ -0,0 +1,215 @@
+package com.example.demo.modules.chat.service;
+
+import com.example.demo.modules.chat.dto.ChatDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼.
+ * 전송된 메시지를 응답 DTO 형태로 방마다 최대 N건 보관하여, 활성 채팅방의 히스토리/최근 메시지 조회를 DB 없이 처리한다.
+ * 처음 조회되는 방은 DB 에서 최근 메시지를 읽어 채우고(warm), 오래 사용되지 않은 방은 LRU/유휴 시간 기준으로 제거된다.
+ */
+@Component
+@Slf4j
+public class ChatHistoryBuffer {
+
+    private static final Comparator<ChatDto.MessageResponse> MESSAGE_ORDER = Comparator
+            .comparing(ChatDto.MessageResponse::getCreatedAt)
+            .thenComparing(ChatDto.MessageResponse::getId);
+
+    private final int capacity;
+    private final Cache<Long, RoomBuffer> rooms;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong warmCount = new AtomicLong();
+
+    public ChatHistoryBuffer(@Value("${chat.history-buffer.messages-per-room:200}") int capacity,
+                             @Value("${chat.history-buffer.max-rooms:1000}") long maxRooms,
+                             @Value("${chat.history-buffer.idle-expire-minutes:30}") long idleExpireMinutes) {
+        this.capacity = capacity;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMinutes(idleExpireMinutes))
+                .build();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 전송 경로에서 호출 (방 버퍼가 없으면 비어 있는 상태로 만들고, 과거 메시지는 첫 조회 때 채움)
+    public void append(ChatDto.MessageResponse message) {
+        rooms.get(message.getRoomId(), id -> new RoomBuffer(capacity)).append(message);
+    }
+
+    /**
+     * 최근 limit 건을 오래된 순으로 반환한다. 버퍼로 응답할 수 없으면 null.
+     * loader 는 방의 최근 메시지(오래된 순, 최대 capacity 건)를 DB 에서 읽어온다.
+     */
+    public List<ChatDto.MessageResponse> getLatest(Long roomId, int limit,
+                                                  Function<Long, List<ChatDto.MessageResponse>> loader) {
+        if (limit > capacity) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        Snapshot snapshot = warmedRoom(roomId, loader).snapshot();
+        if (snapshot.messages().size() < limit && !snapshot.complete()) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        List<ChatDto.MessageResponse> messages = snapshot.messages();
+        return messages.subList(Math.max(0, messages.size() - limit), messages.size());
+    }
+
+    // since 이후 메시지를 오래된 순으로 반환한다. 버퍼가 since 시점까지 포함하지 못하면 null.
+    public List<ChatDto.MessageResponse> getSince(Long roomId, LocalDateTime since,
+                                                 Function<Long, List<ChatDto.MessageResponse>> loader) {
+        Snapshot snapshot = warmedRoom(roomId, loader).snapshot();
+        List<ChatDto.MessageResponse> messages = snapshot.messages();
+        boolean covers = snapshot.complete()
+                || (!messages.isEmpty() && messages.get(0).getCreatedAt().isBefore(since));
+        if (!covers) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return messages.stream()
+                .filter(message -> !message.getCreatedAt().isBefore(since))
+                .toList();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getWarmCount() {
+        return warmCount.get();
+    }
+
+    public long getRoomCount() {
+        return rooms.estimatedSize();
+    }
+
+    private RoomBuffer warmedRoom(Long roomId, Function<Long, List<ChatDto.MessageResponse>> loader) {
+        RoomBuffer room = rooms.get(roomId, id -> new RoomBuffer(capacity));
+        room.warm(() -> {
+            warmCount.incrementAndGet();
+            log.debug("채팅 히스토리 버퍼 적재: Room {}", roomId);
+            return loader.apply(roomId);
+        });
+        return room;
+    }
+
+    private record Snapshot(List<ChatDto.MessageResponse> messages, boolean complete) {
+    }
+
+    private record Slot(long sequence, ChatDto.MessageResponse message) {
+    }
+
+    /**
+     * 단일 방의 링 버퍼. 쓰기는 시퀀스 번호를 CAS 로 할당받아 슬롯에 기록하고(잠금 없음),
+     * 읽기는 슬롯의 시퀀스를 확인해 덮어쓰였거나 아직 기록 중인 슬롯을 건너뛴다.
+     */
+    private static class RoomBuffer {
+
+        private final int capacity;
+        private final AtomicReferenceArray<Slot> slots;
+        private final AtomicLong nextSequence = new AtomicLong();
+
+        // DB 에서 읽어온 과거 메시지 (오래된 순), warm 이전에는 null
+        private volatile List<ChatDto.MessageResponse> preloaded;
+        // DB 에 있는 방의 전체 히스토리가 버퍼에 들어 있는지
+        private volatile boolean preloadedComplete;
+
+        RoomBuffer(int capacity) {
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        void append(ChatDto.MessageResponse message) {
+            long sequence = nextSequence.getAndIncrement();
+            slots.set((int) (sequence % capacity), new Slot(sequence, message));
+        }
+
+        void warm(Supplier<List<ChatDto.MessageResponse>> loader) {
+            if (preloaded != null) {
+                return;
+            }
+            synchronized (this) {
+                if (preloaded == null) {
+                    List<ChatDto.MessageResponse> loaded = loader.get();
+                    preloadedComplete = loaded.size() < capacity;
+                    preloaded = loaded;
+                }
+            }
+        }
+
+        Snapshot snapshot() {
+            long end = nextSequence.get();
+            long start = Math.max(0, end - capacity);
+            List<ChatDto.MessageResponse> appended = new ArrayList<>((int) (end - start));
+            Set<Long> appendedIds = new HashSet<>();
+            for (long sequence = start; sequence < end; sequence++) {
+                Slot slot = slots.get((int) (sequence % capacity));
+                if (slot != null && slot.sequence() == sequence) {
+                    appended.add(slot.message());
+                    appendedIds.add(slot.message().getId());
+                }
+            }
+
+            // 링이 한 바퀴 돌았으면 과거 메시지 일부가 밀려났으므로 전체 히스토리가 아님
+            boolean wrapped = start > 0;
+            List<ChatDto.MessageResponse> merged = new ArrayList<>(capacity);
+            if (!wrapped) {
+                // 이미 저장되어 DB 에서도 읽힌 메시지는 중복 제외
+                for (ChatDto.MessageResponse message : preloaded) {
+                    if (!appendedIds.contains(message.getId())) {
+                        merged.add(message);
+                    }
+                }
+            }
+            merged.addAll(appended);
+
+            // 여러 인바운드 스레드가 동시에 기록하면 순서가 조금 뒤섞일 수 있으므로, 그런 경우에만 정렬
+            if (!isOrdered(merged)) {
+                merged.sort(MESSAGE_ORDER);
+            }
+
+            boolean complete = preloadedComplete && !wrapped && merged.size() <= capacity;
+            if (merged.size() > capacity) {
+                merged = new ArrayList<>(merged.subList(merged.size() - capacity, merged.size()));
+            }
+            return new Snapshot(merged, complete);
+        }
+
+        private static boolean isOrdered(List<ChatDto.MessageResponse> messages) {
+            for (int i = 1; i < messages.size(); i++) {
+                if (MESSAGE_ORDER.compare(messages.get(i - 1), messages.get(i)) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.demo.modules.chat.service;
+
+import com.example.demo.modules.chat.dto.ChatDto;
+import com.example.demo.modules.chat.repository.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 비동기 저장기.
+ * 메시지 ID 를 메모리에서 발급하고, 제한된 크기의 대기열에 쌓인 메시지를 전용 스레드가 JDBC 배치 INSERT 로 저장한다.
+ * 대기열이 가득 차면 offer-timeout 동안 기다린 뒤 거절(백프레셔)하고, 저장 실패 시 재시도한다.
+ * 첫 시도는 일반 INSERT 라서 ID 충돌(다른 인스턴스가 같은 ID 를 발급한 경우 등)이나 FK 위반은 오류로 드러나고,
+ * 이때는 한 건씩 다시 저장해 문제 행만 유실로 집계한다. 재시도는 앞선 시도에서 일부가 이미 저장되었을 수 있으므로
+ * 같은 ID 가 있으면 그대로 두는 INSERT ... ON DUPLICATE KEY UPDATE 를 사용한다.
+ * 저장된 메시지만 ChatHistoryBuffer 에 추가하므로, 유실된 메시지가 히스토리 조회로 다시 보이지 않는다.
+ */
+@Component
+@Slf4j
+public class ChatMessageWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO chat_messages " +
+            "(id, content, type, sender_id, chat_room_id, is_deleted, created_at) VALUES (?, ?, ?, ?, ?, false, ?)";
+    private static final String RETRY_INSERT_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE id = id";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final int maxRetries;
+
+    private final AtomicLong idSequence = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ChatMessageWriter(ChatMessageRepository chatMessageRepository,
+                             ChatHistoryBuffer chatHistoryBuffer,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${chat.ingest.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.ingest.batch-size:500}") int batchSize,
+                             @Value("${chat.ingest.offer-timeout-ms:200}") long offerTimeoutMs,
+                             @Value("${chat.ingest.max-retries:3}") int maxRetries) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatHistoryBuffer = chatHistoryBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.maxRetries = maxRetries;
+    }
+
+    @PostConstruct
+    public void start() {
+        idSequence.set(chatMessageRepository.findMaxId());
+        running = true;
+        writerThread = new Thread(this::runWriter, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("채팅 메시지 저장기 시작: 다음 메시지 ID {}", idSequence.get() + 1);
+    }
+
+    // 종료 시 대기열에 남은 메시지를 모두 저장한 뒤 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            log.error("종료 시 저장되지 못한 채팅 메시지: {}건", queue.size());
+        }
+    }
+
+    public long nextId() {
+        return idSequence.incrementAndGet();
+    }
+
+    public void enqueue(PendingMessage message) {
+        if (!running) {
+            throw new RuntimeException("채팅 메시지 저장기가 종료되었습니다");
+        }
+        try {
+            if (!queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("채팅 메시지가 너무 많습니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("채팅 메시지 저장 대기 중 중단되었습니다");
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getPersistedCount() {
+        return persistedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithRetry(List<PendingMessage> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            boolean retry = attempt > 1;
+            try {
+                int[][] counts = jdbcTemplate.batchUpdate(retry ? RETRY_INSERT_SQL : INSERT_SQL, batch, batch.size(),
+                        (ps, message) -> bind(ps, message));
+                recordResults(batch, counts, retry);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // ID 충돌/FK 위반 등은 재시도해도 해결되지 않으므로 한 건씩 저장해 문제 행만 제외
+                log.warn("채팅 메시지 일괄 저장 중 무결성 오류, 한 건씩 다시 저장합니다: {}", e.getMessage());
+                writeOneByOne(batch, retry);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > maxRetries) {
+                    droppedCount.addAndGet(batch.size());
+                    log.error("채팅 메시지 저장 실패, {}건 유실 (ID {} ~ {}): {}", batch.size(),
+                            batch.get(0).id(), batch.get(batch.size() - 1).id(), e.getMessage());
+                    return;
+                }
+                log.warn("채팅 메시지 저장 실패, 재시도 {}/{}: {}", attempt, maxRetries, e.getMessage());
+                Thread.sleep(100L * attempt);
+            }
+        }
+    }
+
+    // 행별 결과 확인: 일반 INSERT 는 1, 재시도 INSERT 는 이미 있던 행(0)도 앞선 시도에서 저장된 것으로 본다
+    private void recordResults(List<PendingMessage> batch, int[][] counts, boolean retry) {
+        int persisted = 0;
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                boolean stored = count == Statement.SUCCESS_NO_INFO || count == 1 || (retry && count >= 0);
+                if (stored) {
+                    persisted++;
+                    chatHistoryBuffer.append(batch.get(index).message());
+                } else {
+                    droppedCount.incrementAndGet();
+                    log.error("채팅 메시지가 저장되지 않았습니다 (ID {}, 결과 {})", batch.get(index).id(), count);
+                }
+                index++;
+            }
+        }
+        persistedCount.addAndGet(persisted);
+        log.debug("채팅 메시지 {}건 저장", persisted);
+    }
+
+    private void writeOneByOne(List<PendingMessage> batch, boolean retry) {
+        for (PendingMessage message : batch) {
+            try {
+                jdbcTemplate.update(retry ? RETRY_INSERT_SQL : INSERT_SQL, ps -> bind(ps, message));
+                persistedCount.incrementAndGet();
+                chatHistoryBuffer.append(message.message());
+            } catch (DuplicateKeyException e) {
+                // 이 인스턴스의 ID 발급이 DB 보다 뒤처짐 (다른 인스턴스가 같은 ID 를 발급한 경우 등)
+                droppedCount.incrementAndGet();
+                idSequence.accumulateAndGet(chatMessageRepository.findMaxId(), Math::max);
+                log.error("채팅 메시지 ID 충돌로 저장하지 못했습니다 (ID {}), 다음 ID 를 {} 부터 발급합니다",
+                        message.id(), idSequence.get() + 1);
+            } catch (RuntimeException e) {
+                droppedCount.incrementAndGet();
+                log.error("채팅 메시지 저장 실패, 유실 (ID {}, 방 {}, 보낸 사람 {}): {}",
+                        message.id(), message.roomId(), message.message().getSenderId(), e.getMessage());
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PendingMessage message) throws SQLException {
+        ps.setLong(1, message.id());
+        ps.setString(2, message.message().getContent());
+        ps.setString(3, message.message().getType().name());
+        ps.setLong(4, message.message().getSenderId());
+        ps.setLong(5, message.roomId());
+        ps.setTimestamp(6, Timestamp.valueOf(message.message().getCreatedAt()));
+    }
+
+    // 브로드캐스트한 메시지 그대로 저장 (저장되면 같은 응답을 히스토리 버퍼에 추가)
+    public record PendingMessage(ChatDto.MessageResponse message) {
+
+        Long id() {
+            return message.getId();
+        }
+
+        Long roomId() {
+            return message.getRoomId();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.demo.modules.chat.service;
 
+import com.example.demo.common.pagination.Cursor;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.modules.chat.dto.ChatDto;
 import com.example.demo.modules.chat.entity.ChatMessage;
 import com.example.demo.modules.chat.entity.ChatRoom;
@@ -7,16 +9,21 @@ import com.example.demo.modules.chat.repository.ChatMessageRepository;
 import com.example.demo.modules.chat.repository.ChatRoomRepository;
 import com.example.demo.modules.user.entity.User;
 import com.example.demo.modules.user.repository.UserRepository;
+import com.example.demo.modules.chat.mapper.ChatMessageMapper;
+import com.example.demo.modules.chat.mapper.ChatRoomMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,10 +33,26 @@ import java.util.stream.Collectors;
 @Transactional
 public class ChatService {
 
+    // chat_messages.content 컬럼 길이
+    private static final int MAX_CONTENT_LENGTH = 1000;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final ChatRoomMapper chatRoomMapper;
+    private final ChatMessageMapper chatMessageMapper;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+
+    // 메시지 전송마다 채팅방/발신자를 조회하지 않도록 표시용 정보만 짧게 캐시
+    private final Cache<Long, String> activeRoomNames = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .build();
+    private final Cache<Long, String> senderNicknames = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .build();
 
     // 채팅방 생성
     public ChatDto.RoomResponse createChatRoom(ChatDto.RoomCreateRequest request, Long creatorId) {
@@ -48,7 +71,7 @@ public class ChatService {
         ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
         log.info("새로운 채팅방이 생성되었습니다: {} (ID: {})", savedRoom.getName(), savedRoom.getId());
 
-        return convertToRoomResponse(savedRoom);
+        return chatRoomMapper.map(savedRoom);
     }
 
     // 활성 채팅방 목록 조회
@@ -56,7 +79,7 @@ public class ChatService {
     public ChatDto.RoomListResponse getActiveChatRooms() {
         List<ChatRoom> rooms = chatRoomRepository.findByIsActiveTrueOrderByCreatedAtDesc();
         List<ChatDto.RoomResponse> roomResponses = rooms.stream()
-                .map(this::convertToRoomResponse)
+                .map(chatRoomMapper::map)
                 .collect(Collectors.toList());
 
         return ChatDto.RoomListResponse.builder()
@@ -71,51 +94,88 @@ public class ChatService {
         ChatRoom room = chatRoomRepository.findByIdAndIsActiveTrue(roomId)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다: " + roomId));
 
-        return convertToRoomResponse(room);
+        return chatRoomMapper.map(room);
     }
 
-    // 채팅방 메시지 저장
+    // 채팅방 메시지 저장 (ID/시간을 즉시 할당해 응답하고, DB 저장은 ChatMessageWriter 가 배치로 처리)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatDto.MessageResponse saveMessage(ChatDto.MessageRequest request, Long senderId) {
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + senderId));
-
-        ChatRoom chatRoom = chatRoomRepository.findByIdAndIsActiveTrue(request.getRoomId())
-                .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다: " + request.getRoomId()));
-
-        ChatMessage message = ChatMessage.builder()
+        validateMessage(request);
+        Long roomId = request.getRoomId();
+        String roomName = activeRoomNames.get(roomId, id -> chatRoomRepository.findByIdAndIsActiveTrue(id)
+                .map(ChatRoom::getName)
+                .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다: " + id)));
+        String senderNickname = senderNicknames.get(senderId, id -> userRepository.findById(id)
+                .map(User::getNickname)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id)));
+
+        ChatMessage.MessageType type = request.getType() != null ? request.getType() : ChatMessage.MessageType.CHAT;
+        ChatDto.MessageResponse response = ChatDto.MessageResponse.builder()
+                .id(chatMessageWriter.nextId())
                 .content(request.getContent())
-                .type(request.getType())
-                .sender(sender)
-                .chatRoom(chatRoom)
+                .type(type)
+                .senderId(senderId)
+                .senderNickname(senderNickname)
+                .roomId(roomId)
+                .roomName(roomName)
+                .createdAt(LocalDateTime.now())
                 .build();
+        // 히스토리 버퍼에는 저장기가 DB 에 저장한 뒤에 추가됨 (저장에 실패한 메시지가 히스토리에 남지 않도록)
+        chatMessageWriter.enqueue(new ChatMessageWriter.PendingMessage(response));
+        log.debug("새로운 메시지가 저장 대기열에 등록되었습니다: Room {}, Sender {}", roomId, senderNickname);
+        return response;
+    }
 
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-        log.debug("새로운 메시지가 저장되었습니다: Room {}, Sender {}", 
-                 chatRoom.getId(), sender.getNickname());
-
-        return convertToMessageResponse(savedMessage);
+    // DB 저장이 비동기라 저장 단계에서 실패하면 이미 브로드캐스트된 뒤이므로, ID 발급 전에 컬럼 제약을 미리 확인
+    private static void validateMessage(ChatDto.MessageRequest request) {
+        if (request.getRoomId() == null) {
+            throw new RuntimeException("채팅방 ID는 필수입니다");
+        }
+        String content = request.getContent();
+        if (content == null || content.isBlank()) {
+            throw new RuntimeException("메시지 내용은 필수입니다");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new RuntimeException("메시지는 1-" + MAX_CONTENT_LENGTH + "자 사이여야 합니다");
+        }
     }
 
-    // 채팅방 메시지 목록 조회
-    @Transactional(readOnly = true)
+    // 채팅방 메시지 목록 조회 (활성 채팅방은 메모리 버퍼에서 응답)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ChatDto.MessageResponse> getChatMessages(Long roomId, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        List<ChatMessage> messages = chatMessageRepository
-                .findTop50ByChatRoomIdAndIsDeletedFalseOrderByCreatedAtDesc(roomId, pageable);
-
-        // 최신 메시지부터 가져왔으므로 순서를 뒤집어서 오래된 것부터 정렬
-        return messages.stream()
-                .sorted((m1, m2) -> m1.getCreatedAt().compareTo(m2.getCreatedAt()))
-                .map(this::convertToMessageResponse)
-                .collect(Collectors.toList());
+        List<ChatDto.MessageResponse> buffered = chatHistoryBuffer.getLatest(roomId, limit, this::loadLatestMessages);
+        if (buffered != null) {
+            return buffered;
+        }
+        return loadLatestMessages(roomId, limit);
     }
 
-    // 최근 메시지 조회 (특정 시간 이후)
+    // 채팅방 이전 메시지 조회 (커서 기반, 최신 -> 과거 방향으로 페이지 이동)
     @Transactional(readOnly = true)
+    public CursorPage<ChatDto.MessageResponse> getChatMessagesByCursor(Long roomId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        List<ChatMessage> messages = chatMessageRepository.findRoomHistory(
+                roomId, Cursor.createdAtOf(position), Cursor.idOf(position), CursorPage.limitFor(size));
+
+        CursorPage<ChatDto.MessageResponse> page = CursorPage.of(messages, size,
+                message -> new Cursor(message.getCreatedAt(), message.getId()),
+                chatMessageMapper::map);
+
+        // 페이지 내에서는 오래된 메시지부터 표시
+        Collections.reverse(page.getContent());
+        return page;
+    }
+
+    // 최근 메시지 조회 (특정 시간 이후, 버퍼가 해당 시점까지 포함하면 메모리에서 응답)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ChatDto.MessageResponse> getRecentMessages(Long roomId, LocalDateTime since) {
+        List<ChatDto.MessageResponse> buffered = chatHistoryBuffer.getSince(roomId, since, this::loadLatestMessages);
+        if (buffered != null) {
+            return buffered;
+        }
         List<ChatMessage> messages = chatMessageRepository.findRecentMessages(roomId, since);
         return messages.stream()
-                .map(this::convertToMessageResponse)
+                .map(chatMessageMapper::map)
                 .collect(Collectors.toList());
     }
 
@@ -124,7 +184,7 @@ public class ChatService {
     public List<ChatDto.RoomResponse> getUserChatRooms(Long userId) {
         List<ChatRoom> rooms = chatRoomRepository.findByCreatorIdAndIsActiveTrueOrderByCreatedAtDesc(userId);
         return rooms.stream()
-                .map(this::convertToRoomResponse)
+                .map(chatRoomMapper::map)
                 .collect(Collectors.toList());
     }
 
@@ -156,33 +216,19 @@ public class ChatService {
         }
     }
 
-    // 엔티티를 DTO로 변환
-    private ChatDto.RoomResponse convertToRoomResponse(ChatRoom room) {
-        return ChatDto.RoomResponse.builder()
-                .id(room.getId())
-                .name(room.getName())
-                .description(room.getDescription())
-                .type(room.getType())
-                .creatorId(room.getCreator().getId())
-                .creatorNickname(room.getCreator().getNickname())
-                .isActive(room.getIsActive())
-                .maxParticipants(room.getMaxParticipants())
-                .currentParticipants(room.getCurrentParticipants())
-                .createdAt(room.getCreatedAt())
-                .updatedAt(room.getUpdatedAt())
-                .build();
+    // DB 에서 최근 메시지를 오래된 순으로 조회 (버퍼 적재 및 버퍼 미스 시 사용)
+    private List<ChatDto.MessageResponse> loadLatestMessages(Long roomId) {
+        return loadLatestMessages(roomId, chatHistoryBuffer.getCapacity());
     }
 
-    private ChatDto.MessageResponse convertToMessageResponse(ChatMessage message) {
-        return ChatDto.MessageResponse.builder()
-                .id(message.getId())
-                .content(message.getContent())
-                .type(message.getType())
-                .senderId(message.getSender().getId())
-                .senderNickname(message.getSender().getNickname())
-                .roomId(message.getChatRoom().getId())
-                .roomName(message.getChatRoom().getName())
-                .createdAt(message.getCreatedAt())
-                .build();
+    private List<ChatDto.MessageResponse> loadLatestMessages(Long roomId, int limit) {
+        List<ChatDto.MessageResponse> messages = chatMessageRepository
+                .findLatestWithSenderAndRoom(roomId, Limit.of(limit)).stream()
+                .map(chatMessageMapper::map)
+                .collect(Collectors.toList());
+
+        // 최신 메시지부터 가져왔으므로 순서를 뒤집어서 오래된 것부터 정렬
+        Collections.reverse(messages);
+        return messages;
     }
 } 
\ No newline at end of file
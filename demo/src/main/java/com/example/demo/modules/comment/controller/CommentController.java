@@ -1,5 +1,6 @@
 package com.example.demo.modules.comment.controller;
 
+import com.example.demo.common.metrics.QueryBudget;
 import com.example.demo.modules.comment.dto.CommentDto;
 import com.example.demo.modules.comment.service.CommentService;
 import com.example.demo.security.UserPrincipal;
@@ -60,6 +61,7 @@ public class CommentController {
 
     @Operation(summary = "게시글의 댓글 목록", description = "특정 게시글의 모든 댓글을 조회합니다.")
     @GetMapping("/post/{postId}")
+    @QueryBudget(3)
     public ResponseEntity<List<CommentDto.Response>> getCommentsByPostId(@PathVariable Long postId) {
         List<CommentDto.Response> comments = commentService.getCommentsByPostId(postId);
         return ResponseEntity.ok(comments);
@@ -110,13 +112,29 @@ public class CommentController {
         }
     }
 
-    @Operation(summary = "댓글 좋아요", description = "댓글에 좋아요를 추가합니다.")
+    @Operation(summary = "댓글 좋아요", description = "댓글에 좋아요를 추가합니다. 이미 좋아요한 경우 변화가 없습니다.")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/{id}/like")
-    public ResponseEntity<Void> likeComment(@PathVariable Long id) {
+    public ResponseEntity<CommentDto.LikeResponse> likeComment(
+            @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
         try {
-            commentService.likeComment(id);
-            return ResponseEntity.ok().build();
+            CommentDto.LikeResponse response = commentService.likeComment(id, userPrincipal.getId());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "댓글 좋아요 취소", description = "댓글 좋아요를 취소합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<CommentDto.LikeResponse> unlikeComment(
+            @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        try {
+            CommentDto.LikeResponse response = commentService.unlikeComment(id, userPrincipal.getId());
+            return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -87,4 +87,15 @@ public class CommentDto {
         @NotNull(message = "댓글 ID는 필수입니다")
         private Long commentId;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "CommentLikeResponse", description = "댓글 좋아요 응답 DTO")
+    public static class LikeResponse {
+        private Long commentId;
+        private Boolean liked;
+        private Integer likeCount;
+    }
 } 
\ No newline at end of file
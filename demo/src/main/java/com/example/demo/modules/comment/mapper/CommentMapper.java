@@ -0,0 +1,49 @@
+package com.example.demo.modules.comment.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.comment.dto.CommentDto;
+import com.example.demo.modules.comment.entity.Comment;
+import com.example.demo.modules.comment.service.CommentLikeCountBuffer;
+import com.example.demo.modules.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentMapper implements Mapper<Comment, CommentDto.Response> {
+
+    private final CommentLikeCountBuffer likeCountBuffer;
+
+    @Override
+    public CommentDto.Response map(Comment comment) {
+        return map(comment, CommentDto.PostInfo.builder()
+                .id(comment.getPost().getId())
+                .title(comment.getPost().getTitle())
+                .build());
+    }
+
+    // 같은 게시글의 댓글 목록처럼 게시글 정보를 이미 알고 있을 때 (게시글 엔티티를 읽지 않음)
+    public CommentDto.Response map(Comment comment, CommentDto.PostInfo postInfo) {
+        User author = comment.getAuthor();
+        // 댓글 목록에는 썸네일이 있으면 썸네일을 사용
+        CommentDto.AuthorInfo authorInfo = CommentDto.AuthorInfo.builder()
+                .id(author.getId())
+                .name(author.getName())
+                .nickname(author.getNickname())
+                .profileImageUrl(author.getProfileThumbnailUrl() != null
+                        ? author.getProfileThumbnailUrl() : author.getProfileImageUrl())
+                .build();
+
+        return CommentDto.Response.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .author(authorInfo)
+                .post(postInfo)
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .likeCount(comment.getLikeCount() + (int) likeCountBuffer.getPending(comment.getId()))
+                .isDeleted(comment.getIsDeleted())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+}
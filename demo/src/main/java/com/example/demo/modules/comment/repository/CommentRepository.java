@@ -27,9 +27,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.author.id = :authorId AND c.isDeleted = false")
     long countByAuthorIdAndIsDeletedFalse(@Param("authorId") Long authorId);
 
-    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.isDeleted = false " +
-           "ORDER BY c.createdAt ASC")
+    // 게시글 정보는 호출하는 쪽에서 한 번만 읽어 넘김 (게시글 본문을 댓글 행마다 읽지 않도록)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.post.id = :postId AND c.isDeleted = false " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
     List<Comment> findAllByPostIdAndIsDeletedFalse(@Param("postId") Long postId);
 
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :id AND c.isDeleted = false")
+    Optional<Integer> findLikeCountByIdAndIsDeletedFalse(@Param("id") Long id);
+
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 } 
\ No newline at end of file
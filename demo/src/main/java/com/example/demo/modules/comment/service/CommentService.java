@@ -2,11 +2,15 @@ package com.example.demo.modules.comment.service;
 
 import com.example.demo.modules.comment.dto.CommentDto;
 import com.example.demo.modules.comment.entity.Comment;
+import com.example.demo.modules.comment.repository.CommentLikeRepository;
 import com.example.demo.modules.comment.repository.CommentRepository;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.service.StatisticsRollupService;
 import com.example.demo.modules.user.entity.User;
 import com.example.demo.modules.user.repository.UserRepository;
 import com.example.demo.modules.post.entity.Post;
 import com.example.demo.modules.post.repository.PostRepository;
+import com.example.demo.modules.comment.mapper.CommentMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,8 +26,13 @@ import java.util.stream.Collectors;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentLikeCountBuffer likeCountBuffer;
+    private final CommentMapper commentMapper;
+    private final CommentTreeAssembler commentTreeAssembler;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final StatisticsRollupService statisticsRollupService;
 
     public CommentDto.Response createComment(CommentDto.CreateRequest request, Long authorId) {
         User author = userRepository.findById(authorId)
@@ -46,10 +55,11 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        statisticsRollupService.recordAfterCommit(StatisticType.DAILY_COMMENTS, StatisticsRollupService.CREATED, 1);
         log.info("새 댓글 생성됨: {} by {} on post {}", 
                 savedComment.getId(), author.getEmail(), post.getTitle());
 
-        return convertToResponse(savedComment);
+        return commentMapper.map(savedComment);
     }
 
     @Transactional(readOnly = true)
@@ -57,24 +67,33 @@ public class CommentService {
         Comment comment = commentRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + id));
 
-        return convertToResponse(comment);
+        return commentMapper.map(comment);
     }
 
     @Transactional(readOnly = true)
     public List<CommentDto.Response> getCommentsByPostId(Long postId) {
-        List<Comment> parentComments = commentRepository
-                .findByPostIdAndParentIsNullAndIsDeletedFalseOrderByCreatedAtAsc(postId);
-
-        return parentComments.stream()
-                .map(this::convertToResponseWithReplies)
+        // 작성자까지 한 번의 쿼리로 가져온 뒤 메모리에서 트리를 구성
+        List<Comment> rows = commentRepository.findAllByPostIdAndIsDeletedFalse(postId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        // 게시글은 제목만 한 번 조회해 모든 댓글에 공유
+        CommentDto.PostInfo postInfo = CommentDto.PostInfo.builder()
+                .id(postId)
+                .title(postRepository.findTitleById(postId).orElse(null))
+                .build();
+        List<CommentDto.Response> comments = rows.stream()
+                .map(comment -> commentMapper.map(comment, postInfo))
                 .collect(Collectors.toList());
+
+        return commentTreeAssembler.assemble(comments);
     }
 
     @Transactional(readOnly = true)
     public List<CommentDto.Response> getCommentsByAuthor(Long authorId) {
         return commentRepository.findByAuthorIdAndIsDeletedFalseOrderByCreatedAtDesc(authorId)
                 .stream()
-                .map(this::convertToResponse)
+                .map(commentMapper::map)
                 .collect(Collectors.toList());
     }
 
@@ -91,7 +110,7 @@ public class CommentService {
         Comment updatedComment = commentRepository.save(comment);
         
         log.info("댓글 업데이트됨: {}", updatedComment.getId());
-        return convertToResponse(updatedComment);
+        return commentMapper.map(updatedComment);
     }
 
     public void deleteComment(Long id, Long authorId) {
@@ -110,12 +129,37 @@ public class CommentService {
         log.info("댓글 삭제됨: {}", comment.getId());
     }
 
-    public void likeComment(Long commentId) {
-        Comment comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
+    public CommentDto.LikeResponse likeComment(Long commentId, Long userId) {
+        Integer likeCount = commentRepository.findLikeCountByIdAndIsDeletedFalse(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
 
-        comment.setLikeCount(comment.getLikeCount() + 1);
-        commentRepository.save(comment);
+        // 좋아요 원장에 기록된 경우에만 카운트 증가 (중복 좋아요는 무시)
+        boolean inserted = commentLikeRepository.insertIfAbsent(commentId, userId) > 0;
+        if (inserted) {
+            likeCountBuffer.addAfterCommit(commentId, 1);
+        }
+
+        return CommentDto.LikeResponse.builder()
+                .commentId(commentId)
+                .liked(true)
+                .likeCount(likeCount + (int) likeCountBuffer.getPending(commentId) + (inserted ? 1 : 0))
+                .build();
+    }
+
+    public CommentDto.LikeResponse unlikeComment(Long commentId, Long userId) {
+        Integer likeCount = commentRepository.findLikeCountByIdAndIsDeletedFalse(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
+
+        boolean deleted = commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId) > 0;
+        if (deleted) {
+            likeCountBuffer.addAfterCommit(commentId, -1);
+        }
+
+        return CommentDto.LikeResponse.builder()
+                .commentId(commentId)
+                .liked(false)
+                .likeCount(likeCount + (int) likeCountBuffer.getPending(commentId) - (deleted ? 1 : 0))
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -127,45 +171,4 @@ public class CommentService {
     public long getCommentCountByAuthor(Long authorId) {
         return commentRepository.countByAuthorIdAndIsDeletedFalse(authorId);
     }
-
-    private CommentDto.Response convertToResponse(Comment comment) {
-        CommentDto.AuthorInfo authorInfo = CommentDto.AuthorInfo.builder()
-                .id(comment.getAuthor().getId())
-                .name(comment.getAuthor().getName())
-                .nickname(comment.getAuthor().getNickname())
-                .profileImageUrl(comment.getAuthor().getProfileImageUrl())
-                .build();
-
-        CommentDto.PostInfo postInfo = CommentDto.PostInfo.builder()
-                .id(comment.getPost().getId())
-                .title(comment.getPost().getTitle())
-                .build();
-
-        return CommentDto.Response.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .author(authorInfo)
-                .post(postInfo)
-                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .likeCount(comment.getLikeCount())
-                .isDeleted(comment.getIsDeleted())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .build();
-    }
-
-    private CommentDto.Response convertToResponseWithReplies(Comment comment) {
-        CommentDto.Response response = convertToResponse(comment);
-
-        // 대댓글 조회
-        List<Comment> replies = commentRepository
-                .findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(comment.getId());
-        
-        List<CommentDto.Response> replyResponses = replies.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-
-        response.setReplies(replyResponses);
-        return response;
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.demo.modules.comment.service;
+
+import com.example.demo.modules.comment.dto.CommentDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글의 댓글 목록(평면)을 부모-자식 트리로 조립한다.
+ * 입력은 작성 순으로 정렬되어 있어야 하며, 한 번의 순회로 깊이에 상관없이 O(n) 에 트리를 만든다.
+ */
+@Component
+public class CommentTreeAssembler {
+
+    public List<CommentDto.Response> assemble(List<CommentDto.Response> comments) {
+        Map<Long, CommentDto.Response> byId = new HashMap<>(comments.size() * 2);
+        for (CommentDto.Response comment : comments) {
+            comment.setReplies(new ArrayList<>());
+            byId.put(comment.getId(), comment);
+        }
+
+        List<CommentDto.Response> roots = new ArrayList<>();
+        for (CommentDto.Response comment : comments) {
+            if (comment.getParentId() == null) {
+                roots.add(comment);
+                continue;
+            }
+            // 삭제된 댓글의 답글은 기존과 동일하게 노출하지 않는다
+            CommentDto.Response parent = byId.get(comment.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(comment);
+            }
+        }
+        return roots;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.demo.modules.file.controller;
 
 import com.example.demo.modules.file.dto.FileDto;
 import com.example.demo.modules.file.service.FileService;
+import com.example.demo.modules.file.storage.BlobResponseWriter;
+import com.example.demo.modules.file.storage.UploadCapacityExceededException;
 import com.example.demo.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,14 +13,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/files")
@@ -28,6 +39,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileController {
 
     private final FileService fileService;
+    private final BlobResponseWriter blobResponseWriter;
 
     @Operation(
         summary = "파일 업로드", 
@@ -58,6 +70,140 @@ public class FileController {
         }
     }
 
+    @Operation(
+        summary = "파일 스트리밍 업로드",
+        description = "요청 본문 전체를 파일 내용으로 받아 저장소로 바로 전송합니다. multipart 업로드의 크기 제한 없이 " +
+                "file.upload.max-size 까지 업로드할 수 있습니다. Content-Type 은 파일의 MIME 타입으로 저장됩니다."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "파일 업로드 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "413", description = "허용된 최대 크기 초과"),
+            @ApiResponse(responseCode = "503", description = "동시 업로드 수 초과")
+    })
+    @PutMapping("/stream")
+    public ResponseEntity<FileDto.UploadResponse> uploadFileStream(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "원본 파일 이름", required = true) @RequestParam String fileName,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        String contentType = request.getContentType() != null
+                ? request.getContentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        if (contentType.startsWith("multipart/") || contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE)) {
+            return ResponseEntity.badRequest().build();
+        }
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > fileService.getMaxStreamUploadSize()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        try {
+            FileDto.UploadResponse response = fileService.uploadStream(request.getInputStream(), contentLength,
+                    contentType, fileName, userPrincipal.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (UploadCapacityExceededException e) {
+            log.warn("파일 스트리밍 업로드 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (IOException | RuntimeException e) {
+            log.error("파일 스트리밍 업로드 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "직접 업로드 티켓 발급",
+            description = "S3 에 직접 업로드할 presigned URL 을 발급합니다. 응답의 headers 를 포함해 uploadUrl 로 파일을 PUT 한 뒤 확인 API 를 호출하세요.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "티켓 발급 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @PostMapping("/upload-ticket")
+    public ResponseEntity<FileDto.UploadTicketResponse> createUploadTicket(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody FileDto.UploadTicketRequest request) {
+        try {
+            FileDto.UploadTicketResponse response = fileService.createUploadTicket(request, userPrincipal.getId());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            log.error("업로드 티켓 발급 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "직접 업로드 완료 확인", description = "S3 에 업로드된 파일을 확인하고 파일 정보를 생성합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "파일 업로드 성공"),
+            @ApiResponse(responseCode = "400", description = "티켓이 없거나 업로드되지 않음"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @PostMapping("/upload-ticket/confirm")
+    public ResponseEntity<FileDto.UploadResponse> confirmUpload(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody FileDto.ConfirmUploadRequest request) {
+        try {
+            FileDto.UploadResponse response = fileService.confirmUpload(request.getTicket(), userPrincipal.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (RuntimeException e) {
+            log.error("직접 업로드 확인 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "파일 다운로드",
+            description = "S3 저장소는 짧은 시간 유효한 다운로드 URL 로 리다이렉트하고, 로컬 저장소는 파일을 직접 전송합니다 (Range 요청 지원).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "파일 전송"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간 전송"),
+            @ApiResponse(responseCode = "302", description = "다운로드 URL 로 리다이렉트"),
+            @ApiResponse(responseCode = "404", description = "파일 없음")
+    })
+    @GetMapping("/{id}/download")
+    public void downloadFile(@PathVariable Long id,
+                             @Parameter(hidden = true) HttpServletRequest request,
+                             @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        FileDto.DownloadTarget target;
+        try {
+            target = fileService.getDownload(id);
+        } catch (RuntimeException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (target.getRedirectUrl() != null) {
+            response.setStatus(HttpStatus.FOUND.value());
+            response.setHeader(HttpHeaders.LOCATION, target.getRedirectUrl());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            return;
+        }
+        if (!blobResponseWriter.write(target.getStorageKey(), target.getMimeType(), target.getContentDisposition(),
+                CacheControl.noStore(), request, response)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    @Operation(summary = "저장소 객체 조회", description = "로컬 저장소에 저장된 파일/이미지 파생본을 전송합니다 (Range 요청 지원). 업로드한 파일은 첨부 파일(application/octet-stream)로, 이미지 파생본만 인라인으로 전송합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "파일 전송"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간 전송"),
+            @ApiResponse(responseCode = "404", description = "객체 없음 또는 로컬 저장소가 아님")
+    })
+    @GetMapping("/objects/**")
+    public void getObject(@Parameter(hidden = true) HttpServletRequest request,
+                          @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        String prefix = request.getContextPath() + "/api/files/objects/";
+        String key = UriUtils.decode(request.getRequestURI().substring(prefix.length()), StandardCharsets.UTF_8);
+        try {
+            if (blobResponseWriter.writeLocalObject(key, request, response)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("저장소 객체 조회 실패: {} ({})", key, e.getMessage());
+        }
+        response.sendError(HttpStatus.NOT_FOUND.value());
+    }
+
     @Operation(summary = "파일 조회", description = "특정 파일 정보를 조회합니다.")
     @GetMapping("/{id}")
     public ResponseEntity<FileDto.Response> getFileById(@PathVariable Long id) {
@@ -69,6 +215,26 @@ public class FileController {
         }
     }
 
+    @Operation(summary = "파일 삭제", description = "업로드한 파일을 삭제합니다. 같은 내용을 공유하는 파일이 남아 있으면 저장된 내용은 유지됩니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "파일 삭제 성공"),
+            @ApiResponse(responseCode = "400", description = "파일이 없거나 삭제 권한 없음"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteFile(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long id) {
+        try {
+            fileService.deleteFile(id, userPrincipal.getId());
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            log.error("파일 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // Swagger용 스키마 클래스
     @Schema(name = "FileUploadRequestSchema", description = "파일 업로드 요청 스키마")
     public static class FileUploadRequestSchema {
@@ -6,7 +6,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public class FileDto {
 
@@ -35,6 +40,14 @@ public class FileDto {
         private String downloadUrl;
         private Long fileSize;
         private String mimeType;
+        private String checksumSha256;
+
+        @Schema(description = "썸네일 이미지 URL (이미지 파일이고 생성이 끝난 경우)")
+        private String thumbnailUrl;
+
+        @Schema(description = "중간 크기 이미지 URL (이미지 파일이고 생성이 끝난 경우)")
+        private String mediumUrl;
+
         private UploaderInfo uploader;
         private Integer downloadCount;
         private LocalDateTime uploadedAt;
@@ -84,4 +97,65 @@ public class FileDto {
         private Integer downloadCount;
         private LocalDateTime uploadedAt;
     }
-} 
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "FileDownloadTarget", description = "파일 다운로드 대상 (redirectUrl 이 없으면 저장 키로 직접 전송)")
+    public static class DownloadTarget {
+        private String redirectUrl;
+        private String storageKey;
+        private String mimeType;
+        private String contentDisposition;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "FileUploadTicketRequest", description = "직접 업로드 티켓 요청 DTO")
+    public static class UploadTicketRequest {
+        @NotBlank(message = "파일 이름은 필수입니다")
+        private String fileName;
+
+        private String contentType;
+
+        @NotNull(message = "파일 크기는 필수입니다")
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        private Long fileSize;
+
+        @Schema(description = "파일 내용의 SHA-256 (hex). 지정하면 업로드 시 S3 가 내용을 검증하고 같은 내용의 파일과 저장 공간을 공유합니다")
+        @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "SHA-256 은 64자리 16진수여야 합니다")
+        private String sha256;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "FileUploadTicketResponse", description = "직접 업로드 티켓 응답 DTO")
+    public static class UploadTicketResponse {
+        private String ticket;
+
+        @Schema(description = "파일 내용을 전송할 presigned URL")
+        private String uploadUrl;
+
+        private String method;
+
+        @Schema(description = "업로드 요청에 그대로 포함해야 하는 헤더")
+        private Map<String, String> headers;
+
+        private LocalDateTime expiresAt;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "FileUploadConfirmRequest", description = "직접 업로드 완료 확인 요청 DTO")
+    public static class ConfirmUploadRequest {
+        @NotBlank(message = "업로드 티켓은 필수입니다")
+        private String ticket;
+    }
+}
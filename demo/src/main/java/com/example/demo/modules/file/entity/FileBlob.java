@@ -0,0 +1,38 @@
+package com.example.demo.modules.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 내용(SHA-256) 기준으로 한 번만 저장되는 파일 본문. 같은 내용의 FileEntity 들이 공유하며 참조 수가 0 이 되면 삭제
+@Entity
+@Table(name = "file_blobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_file_blobs_sha256", columnNames = "sha256"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    private LocalDateTime createdAt;
+}
@@ -36,6 +36,20 @@ public class FileEntity {
 
     private String mimeType;
 
+    // 업로드 중 계산한 SHA-256 (hex)
+    @Column(length = 64)
+    private String checksumSha256;
+
+    // 이미지 파생본 URL (업로드 후 비동기로 생성되며, 생성 전이거나 이미지가 아니면 null)
+    private String thumbnailPath;
+
+    private String mediumPath;
+
+    // 같은 내용의 파일끼리 공유하는 S3 객체 (없으면 uploads/{storedFileName} 를 단독으로 사용하는 기존 파일)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private FileBlob blob;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploader_id", nullable = false)
     private User uploader;
@@ -0,0 +1,40 @@
+package com.example.demo.modules.file.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.file.dto.FileDto;
+import com.example.demo.modules.file.entity.FileEntity;
+import com.example.demo.modules.file.service.FileDownloadCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FileMapper implements Mapper<FileEntity, FileDto.Response> {
+
+    private final FileDownloadCountBuffer downloadCountBuffer;
+
+    @Override
+    public FileDto.Response map(FileEntity file) {
+        FileDto.UploaderInfo uploaderInfo = FileDto.UploaderInfo.builder()
+                .id(file.getUploader().getId())
+                .name(file.getUploader().getName())
+                .nickname(file.getUploader().getNickname())
+                .build();
+
+        return FileDto.Response.builder()
+                .id(file.getId())
+                .originalFileName(file.getOriginalFileName())
+                .storedFileName(file.getStoredFileName())
+                .filePath(file.getFilePath())
+                .downloadUrl("/api/files/" + file.getId() + "/download")
+                .fileSize(file.getFileSize())
+                .mimeType(file.getMimeType())
+                .checksumSha256(file.getChecksumSha256())
+                .thumbnailUrl(file.getThumbnailPath())
+                .mediumUrl(file.getMediumPath())
+                .uploader(uploaderInfo)
+                .downloadCount(file.getDownloadCount() + (int) downloadCountBuffer.getPending(file.getId()))
+                .uploadedAt(file.getUploadedAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.modules.file.repository;
+
+import com.example.demo.modules.file.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findBySha256(String sha256);
+
+    // 같은 내용이 없으면 방금 업로드한 객체로 새 blob 생성, 있으면 참조 수만 증가 (동시 업로드도 한 행으로 수렴)
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (sha256, storage_key, file_size, ref_count, created_at) " +
+                   "VALUES (:sha256, :storageKey, :fileSize, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+           nativeQuery = true)
+    int upsertReference(@Param("sha256") String sha256,
+                        @Param("storageKey") String storageKey,
+                        @Param("fileSize") long fileSize);
+
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :id")
+    int releaseReference(@Param("id") Long id);
+
+    // 참조가 남아 있지 않을 때만 삭제 (releaseReference 가 잡은 행 잠금 안에서 실행)
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.id = :id AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
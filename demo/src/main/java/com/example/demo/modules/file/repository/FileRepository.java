@@ -4,6 +4,7 @@ import com.example.demo.modules.file.entity.FileEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,4 +36,19 @@ public interface FileRepository extends JpaRepository<FileEntity, Long> {
     Long getTotalFileSizeByUploader(@Param("uploaderId") Long uploaderId);
 
     List<FileEntity> findTop10ByOrderByDownloadCountDesc();
+
+    Optional<FileEntity> findFirstByFilePathAndThumbnailPathIsNotNull(String filePath);
+
+    // 같은 blob 을 공유하는 파일은 파생본도 공유
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.thumbnailPath = :thumbnailPath, f.mediumPath = :mediumPath WHERE f.blob.id = :blobId")
+    int updateDerivativesByBlobId(@Param("blobId") Long blobId,
+                                  @Param("thumbnailPath") String thumbnailPath,
+                                  @Param("mediumPath") String mediumPath);
+
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.thumbnailPath = :thumbnailPath, f.mediumPath = :mediumPath WHERE f.id = :id")
+    int updateDerivativesById(@Param("id") Long id,
+                              @Param("thumbnailPath") String thumbnailPath,
+                              @Param("mediumPath") String mediumPath);
 } 
\ No newline at end of file
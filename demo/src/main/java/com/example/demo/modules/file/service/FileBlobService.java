@@ -0,0 +1,77 @@
+package com.example.demo.modules.file.service;
+
+import com.example.demo.modules.file.entity.FileBlob;
+import com.example.demo.modules.file.repository.FileBlobRepository;
+import com.example.demo.modules.file.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 내용 주소 기반(SHA-256) 파일 본문 관리.
+ * 업로드가 끝난 객체를 해시로 등록해, 같은 내용이 이미 있으면 기존 객체를 참조하고 방금 올린 객체는 지운다.
+ * FileEntity 가 삭제되어 참조 수가 0 이 되면 blob 행과 저장소 객체를 함께 정리한다.
+ * 참조 증감은 FileEntity 저장/삭제와 같은 트랜잭션에서 처리하고, 저장소 객체 삭제는 트랜잭션이 끝난 뒤 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class FileBlobService {
+
+    private final FileBlobRepository fileBlobRepository;
+    private final BlobStore blobStore;
+
+    /**
+     * uploadedKey 에 올라간 객체를 sha256 의 blob 으로 등록하고 참조를 하나 늘린다.
+     * 이미 같은 내용의 blob 이 있거나 트랜잭션이 롤백되면 uploadedKey 객체는 참조되지 않으므로 삭제한다.
+     */
+    public FileBlob acquire(String sha256, String uploadedKey, long fileSize) {
+        fileBlobRepository.upsertReference(sha256, uploadedKey, fileSize);
+        FileBlob blob = fileBlobRepository.findBySha256(sha256)
+                .orElseThrow(() -> new RuntimeException("파일 blob 을 찾을 수 없습니다: " + sha256));
+
+        boolean duplicate = !blob.getStorageKey().equals(uploadedKey);
+        if (duplicate) {
+            log.info("중복 파일 내용, 기존 객체 재사용: {} -> {} (참조 {})", uploadedKey, blob.getStorageKey(), blob.getRefCount());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (duplicate || status != STATUS_COMMITTED) {
+                    deleteObject(uploadedKey);
+                }
+            }
+        });
+        return blob;
+    }
+
+    // 참조를 하나 줄이고, 더 이상 참조가 없으면 커밋 후 저장소 객체까지 삭제 (삭제했으면 true)
+    public boolean release(FileBlob blob) {
+        String storageKey = blob.getStorageKey();
+        fileBlobRepository.releaseReference(blob.getId());
+        if (fileBlobRepository.deleteIfUnreferenced(blob.getId()) == 0) {
+            return false;
+        }
+        log.info("참조가 없는 파일 blob 삭제: {}", storageKey);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteObject(storageKey);
+            }
+        });
+        return true;
+    }
+
+    private void deleteObject(String key) {
+        try {
+            blobStore.delete(key);
+        } catch (Exception e) {
+            log.warn("저장소 객체 삭제 실패: {} ({})", key, e.getMessage());
+        }
+    }
+}
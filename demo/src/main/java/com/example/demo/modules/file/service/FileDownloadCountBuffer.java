@@ -0,0 +1,32 @@
+package com.example.demo.modules.file.service;
+
+import com.example.demo.common.counter.JdbcCounterBuffer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 파일 다운로드 수 write-behind 버퍼.
+ * 다운로드 URL 발급 시 메모리 카운터만 증가시키고, flush-interval 마다 배치 UPDATE 로 반영한다.
+ */
+@Component
+public class FileDownloadCountBuffer extends JdbcCounterBuffer {
+
+    public FileDownloadCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager, "파일 다운로드 수", "files", "download_count");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${file.download-count.flush-interval-ms:1000}")
+    public void flush() {
+        super.flush();
+    }
+
+    @Override
+    @PreDestroy
+    public void flushOnShutdown() {
+        super.flushOnShutdown();
+    }
+}
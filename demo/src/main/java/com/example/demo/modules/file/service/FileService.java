@@ -1,24 +1,30 @@
 package com.example.demo.modules.file.service;
 
 import com.example.demo.modules.file.dto.FileDto;
+import com.example.demo.modules.file.entity.FileBlob;
 import com.example.demo.modules.file.entity.FileEntity;
 import com.example.demo.modules.file.repository.FileRepository;
+import com.example.demo.modules.file.storage.BlobStore;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.service.StatisticsRollupService;
 import com.example.demo.modules.user.entity.User;
 import com.example.demo.modules.user.repository.UserRepository;
+import com.example.demo.modules.file.mapper.FileMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
@@ -29,67 +35,201 @@ import java.util.UUID;
 public class FileService {
 
     private final FileRepository fileRepository;
+    private final FileBlobService fileBlobService;
+    private final ImageDerivativeService imageDerivativeService;
     private final UserRepository userRepository;
-    private final S3Client s3Client;
-
-    @Value("${aws.s3.bucket-name}")
-    private String bucketName;
+    private final BlobStore blobStore;
+    private final UploadTicketStore uploadTicketStore;
+    private final FileDownloadCountBuffer downloadCountBuffer;
+    private final FileMapper fileMapper;
+    private final StatisticsRollupService statisticsRollupService;
+    private final PlatformTransactionManager transactionManager;
 
+    // 저장소 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FileDto.UploadResponse uploadFile(MultipartFile file, Long uploaderId) {
         if (file.isEmpty()) {
             throw new RuntimeException("업로드할 파일이 없습니다");
         }
 
+        try (InputStream in = file.getInputStream()) {
+            return store(in, file.getSize(), file.getContentType(), file.getOriginalFilename(), uploaderId);
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage());
+            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    // 요청 본문을 그대로 저장소로 스트리밍 (multipart 파싱/임시 파일 없음, contentLength 를 모르면 -1)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileDto.UploadResponse uploadStream(InputStream in, long contentLength, String contentType,
+                                               String originalFileName, Long uploaderId) {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            throw new RuntimeException("파일 이름이 없습니다");
+        }
+        return store(in, contentLength, contentType, originalFileName, uploaderId);
+    }
+
+    private FileDto.UploadResponse store(InputStream in, long contentLength, String contentType,
+                                         String originalFileName, Long uploaderId) {
         User uploader = userRepository.findById(uploaderId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + uploaderId));
 
-        try {
-            String originalFileName = file.getOriginalFilename();
-            String storedFileName = generateStoredFileName(originalFileName);
-            String s3Key = "uploads/" + storedFileName;
-            
-            // S3에 파일 업로드
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        String storedFileName = generateStoredFileName(originalFileName);
+        String storageKey = "uploads/" + storedFileName;
 
-            String s3Url = String.format("https://%s.s3.%s.amazonaws.com/%s", 
-                    bucketName, "ap-northeast-2", s3Key);
+        // 저장소에 파일 업로드
+        BlobStore.StoredObject stored = blobStore.write(storageKey, in, contentLength, contentType);
 
+        // 같은 내용이 이미 있으면 기존 객체를 공유하고 방금 올린 객체는 커밋 후 삭제
+        FileEntity savedFile = new TransactionTemplate(transactionManager).execute(status -> {
+            FileBlob blob = fileBlobService.acquire(stored.sha256(), storageKey, stored.size());
             FileEntity fileEntity = FileEntity.builder()
                     .originalFileName(originalFileName)
                     .storedFileName(storedFileName)
-                    .filePath(s3Url)
-                    .fileSize(file.getSize())
-                    .mimeType(file.getContentType())
+                    .filePath(objectUrl(blob.getStorageKey()))
+                    .fileSize(stored.size())
+                    .mimeType(contentType)
+                    .checksumSha256(stored.sha256())
+                    .blob(blob)
                     .uploader(uploader)
                     .build();
+            FileEntity saved = fileRepository.save(fileEntity);
+            imageDerivativeService.scheduleAfterCommit(saved);
+            statisticsRollupService.recordAfterCommit(StatisticType.DAILY_FILES, StatisticsRollupService.CREATED, 1);
+            return saved;
+        });
+        log.info("파일 업로드 완료: {} ({} bytes) by {}", originalFileName, stored.size(), uploader.getEmail());
 
-            FileEntity savedFile = fileRepository.save(fileEntity);
-            log.info("파일 업로드 완료: {} by {}", originalFileName, uploader.getEmail());
+        FileDto.Response fileResponse = fileMapper.map(savedFile);
+        return FileDto.UploadResponse.builder()
+                .message("파일 업로드가 완료되었습니다")
+                .file(fileResponse)
+                .build();
+    }
 
-            FileDto.Response fileResponse = convertToResponse(savedFile);
-            return FileDto.UploadResponse.builder()
-                    .message("파일 업로드가 완료되었습니다")
-                    .file(fileResponse)
-                    .build();
+    /**
+     * 클라이언트가 저장소에 직접 업로드할 presigned PUT URL 과 티켓을 발급한다.
+     * 업로드가 끝나면 티켓으로 confirmUpload 를 호출해야 파일 정보가 생성된다.
+     * 직접 업로드를 지원하지 않는 저장소(local)에서는 스트리밍 업로드를 사용해야 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileDto.UploadTicketResponse createUploadTicket(FileDto.UploadTicketRequest request, Long uploaderId) {
+        if (request.getFileSize() > blobStore.getMaxSize()) {
+            throw new RuntimeException("파일 크기가 허용된 최대 크기를 초과합니다: " + request.getFileSize());
+        }
+        String contentType = request.getContentType() != null && !request.getContentType().isBlank()
+                ? request.getContentType()
+                : "application/octet-stream";
+        String storedFileName = generateStoredFileName(request.getFileName());
+        String storageKey = "uploads/" + storedFileName;
+        String sha256 = request.getSha256() != null ? request.getSha256().toLowerCase() : null;
 
-        } catch (IOException e) {
-            log.error("파일 업로드 실패: {}", e.getMessage());
-            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage());
+        // sha256 을 알려주면 체크섬도 서명에 포함되어, 내용이 다르면 저장소가 업로드를 거부
+        BlobStore.DirectUpload upload = blobStore.presignUpload(storageKey, contentType, request.getFileSize(), sha256)
+                .orElseThrow(() -> new RuntimeException("직접 업로드를 지원하지 않는 저장소입니다"));
+
+        String ticket = uploadTicketStore.issue(new UploadTicketStore.Ticket(uploaderId, storageKey, storedFileName,
+                request.getFileName(), contentType, request.getFileSize(), sha256));
+
+        return FileDto.UploadTicketResponse.builder()
+                .ticket(ticket)
+                .uploadUrl(upload.url())
+                .method(upload.method())
+                .headers(upload.headers())
+                .expiresAt(LocalDateTime.ofInstant(upload.expiresAt(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    // 클라이언트의 직접 업로드가 끝났는지 저장소에서 확인한 뒤 파일 정보를 생성
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileDto.UploadResponse confirmUpload(String ticketId, Long uploaderId) {
+        // 티켓을 먼저 꺼내 두어 같은 티켓으로 동시에 확인해도 파일 정보가 한 번만 생성되게 한다
+        UploadTicketStore.Ticket ticket = uploadTicketStore.consume(ticketId);
+        if (ticket == null) {
+            throw new RuntimeException("업로드 티켓을 찾을 수 없습니다: " + ticketId);
+        }
+        try {
+            return completeUpload(ticketId, ticket, uploaderId);
+        } catch (RuntimeException e) {
+            // 다른 사용자의 요청이거나 업로드가 아직 끝나지 않은 경우 등은 티켓을 되돌려 다시 확인할 수 있게 한다
+            uploadTicketStore.restore(ticketId, ticket);
+            throw e;
         }
     }
 
+    private FileDto.UploadResponse completeUpload(String ticketId, UploadTicketStore.Ticket ticket, Long uploaderId) {
+        if (!ticket.uploaderId().equals(uploaderId)) {
+            throw new RuntimeException("업로드 티켓을 찾을 수 없습니다: " + ticketId);
+        }
+
+        BlobStore.BlobMetadata uploaded = blobStore.stat(ticket.key())
+                .orElseThrow(() -> new RuntimeException("업로드된 파일이 없습니다: " + ticket.originalFileName()));
+        if (uploaded.size() != ticket.fileSize()) {
+            throw new RuntimeException("업로드된 파일 크기가 다릅니다: " + uploaded.size() + " != " + ticket.fileSize());
+        }
+
+        User uploader = userRepository.findById(uploaderId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + uploaderId));
+
+        // 저장소가 검증한 체크섬이 있을 때만 중복 제거 대상으로 등록 (클라이언트가 주장한 해시만으로는 공유하지 않음)
+        String verifiedSha256 = ticket.sha256() != null && ticket.sha256().equals(uploaded.sha256())
+                ? uploaded.sha256()
+                : null;
+        FileEntity savedFile = new TransactionTemplate(transactionManager).execute(status -> {
+            FileBlob blob = verifiedSha256 != null
+                    ? fileBlobService.acquire(verifiedSha256, ticket.key(), uploaded.size())
+                    : null;
+            FileEntity fileEntity = FileEntity.builder()
+                    .originalFileName(ticket.originalFileName())
+                    .storedFileName(ticket.storedFileName())
+                    .filePath(objectUrl(blob != null ? blob.getStorageKey() : ticket.key()))
+                    .fileSize(uploaded.size())
+                    .mimeType(uploaded.contentType() != null ? uploaded.contentType() : ticket.contentType())
+                    .checksumSha256(verifiedSha256)
+                    .blob(blob)
+                    .uploader(uploader)
+                    .build();
+            FileEntity saved = fileRepository.save(fileEntity);
+            imageDerivativeService.scheduleAfterCommit(saved);
+            statisticsRollupService.recordAfterCommit(StatisticType.DAILY_FILES, StatisticsRollupService.CREATED, 1);
+            return saved;
+        });
+        log.info("파일 직접 업로드 확인: {} ({} bytes) by {}", ticket.originalFileName(), uploaded.size(), uploader.getEmail());
+
+        return FileDto.UploadResponse.builder()
+                .message("파일 업로드가 완료되었습니다")
+                .file(fileMapper.map(savedFile))
+                .build();
+    }
+
+    /**
+     * 다운로드 대상 조회. 저장소가 presigned URL 을 지원하면 짧은 시간 유효한 URL 로 리다이렉트하고,
+     * 아니면 애플리케이션이 직접 전송할 수 있도록 저장 키를 돌려준다 (다운로드 수는 메모리에 모았다가 일괄 반영).
+     */
+    @Transactional(readOnly = true)
+    public FileDto.DownloadTarget getDownload(Long id) {
+        FileEntity file = fileRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + id));
+
+        String fileName = URLEncoder.encode(file.getOriginalFileName(), StandardCharsets.UTF_8).replace("+", "%20");
+        String contentDisposition = "attachment; filename*=UTF-8''" + fileName;
+        String key = storageKey(file);
+
+        downloadCountBuffer.increment(id);
+        return FileDto.DownloadTarget.builder()
+                .redirectUrl(blobStore.presignDownload(key, contentDisposition).orElse(null))
+                .storageKey(key)
+                .mimeType(file.getMimeType())
+                .contentDisposition(contentDisposition)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public FileDto.Response getFileById(Long id) {
         FileEntity file = fileRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + id));
-        return convertToResponse(file);
+        return fileMapper.map(file);
     }
 
     public void deleteFile(Long fileId, Long uploaderId) {
@@ -101,26 +241,48 @@ public class FileService {
             throw new RuntimeException("파일 삭제 권한이 없습니다");
         }
 
-        // S3에서 파일 삭제
-        try {
-            String s3Key = "uploads/" + file.getStoredFileName();
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .build();
+        // 공유 blob 은 참조만 줄이고, 마지막 참조였으면 커밋 후 저장소 객체 삭제
+        if (file.getBlob() != null) {
+            // blob 삭제 전에 파일 행(FK)부터 지워지도록 바로 반영
+            fileRepository.delete(file);
+            fileRepository.flush();
+            if (fileBlobService.release(file.getBlob())) {
+                imageDerivativeService.deleteAfterCommit(file);
+            }
+            statisticsRollupService.recordAfterCommit(StatisticType.DAILY_FILES, StatisticsRollupService.DELETED, 1);
+            log.info("파일 삭제됨: {}", file.getOriginalFileName());
+            return;
+        }
 
-            s3Client.deleteObject(deleteObjectRequest);
+        // 저장소에서 파일 삭제
+        try {
+            blobStore.delete(storageKey(file));
             
             // DB에서 파일 정보 삭제
             fileRepository.delete(file);
+            imageDerivativeService.deleteAfterCommit(file);
+            statisticsRollupService.recordAfterCommit(StatisticType.DAILY_FILES, StatisticsRollupService.DELETED, 1);
             log.info("파일 삭제됨: {}", file.getOriginalFileName());
             
         } catch (Exception e) {
-            log.error("S3 파일 삭제 실패: {}", e.getMessage());
+            log.error("저장소 파일 삭제 실패: {}", e.getMessage());
             throw new RuntimeException("파일 삭제에 실패했습니다: " + e.getMessage());
         }
     }
 
+    public long getMaxStreamUploadSize() {
+        return blobStore.getMaxSize();
+    }
+
+    // blob 을 공유하는 파일은 blob 의 객체를, 이전에 업로드된 파일은 자신의 객체를 사용
+    private String storageKey(FileEntity file) {
+        return file.getBlob() != null ? file.getBlob().getStorageKey() : "uploads/" + file.getStoredFileName();
+    }
+
+    private String objectUrl(String key) {
+        return blobStore.url(key);
+    }
+
     private String generateStoredFileName(String originalFileName) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
         String uuid = UUID.randomUUID().toString().substring(0, 8);
@@ -134,25 +296,4 @@ public class FileService {
         }
         return "";
     }
-
-    private FileDto.Response convertToResponse(FileEntity file) {
-        FileDto.UploaderInfo uploaderInfo = FileDto.UploaderInfo.builder()
-                .id(file.getUploader().getId())
-                .name(file.getUploader().getName())
-                .nickname(file.getUploader().getNickname())
-                .build();
-
-        return FileDto.Response.builder()
-                .id(file.getId())
-                .originalFileName(file.getOriginalFileName())
-                .storedFileName(file.getStoredFileName())
-                .filePath(file.getFilePath())
-                .downloadUrl(file.getFilePath())
-                .fileSize(file.getFileSize())
-                .mimeType(file.getMimeType())
-                .uploader(uploaderInfo)
-                .downloadCount(file.getDownloadCount())
-                .uploadedAt(file.getUploadedAt())
-                .build();
-    }
 } 
\ No newline at end of file
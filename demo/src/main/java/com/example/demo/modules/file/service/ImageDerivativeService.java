@@ -0,0 +1,332 @@
+package com.example.demo.modules.file.service;
+
+import com.example.demo.modules.file.entity.FileEntity;
+import com.example.demo.modules.file.repository.FileBlobRepository;
+import com.example.demo.modules.file.repository.FileRepository;
+import com.example.demo.modules.file.storage.BlobStore;
+import com.example.demo.modules.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드된 이미지의 파생본(썸네일/중간 크기) 생성.
+ * 업로드 트랜잭션이 커밋된 뒤 제한된 작업 풀에서 원본을 내려받아 축소하고 progressive JPEG 으로 다시 인코딩해 저장한다.
+ * 파생본 키는 내용(blob 의 SHA-256) 기준으로 정해지므로 같은 이미지는 한 번만 만들어지고, 이미 있으면 URL 만 연결한다.
+ * 같은 이미지에 대한 작업이 대기 중이거나 실행 중이면 새 작업은 합쳐진다.
+ * 작업 중 원본을 참조하는 파일이 모두 삭제되면 URL 을 연결하지 않고, 이 작업이 저장한 파생본도 지운다.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final String THUMBNAIL = "thumb";
+    private static final String MEDIUM = "medium";
+
+    private final FileRepository fileRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final UserRepository userRepository;
+    private final BlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+
+    // 대기 중이거나 실행 중인 작업의 파생본 키 -> 그 사이 같은 이미지가 다시 예약되었는지 여부
+    private final ConcurrentHashMap<String, Boolean> pending = new ConcurrentHashMap<>();
+
+    public ImageDerivativeService(FileRepository fileRepository,
+                                  FileBlobRepository fileBlobRepository,
+                                  UserRepository userRepository,
+                                  BlobStore blobStore,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor executor,
+                                  @Value("${file.image.thumbnail-size:150}") int thumbnailSize,
+                                  @Value("${file.image.medium-size:600}") int mediumSize,
+                                  @Value("${file.image.jpeg-quality:0.82}") float jpegQuality,
+                                  @Value("${file.image.max-source-pixels:40000000}") long maxSourcePixels) {
+        this.fileRepository = fileRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.userRepository = userRepository;
+        this.blobStore = blobStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    // 이미지 파일이면 현재 트랜잭션 커밋 후 파생본 생성을 예약
+    public void scheduleAfterCommit(FileEntity file) {
+        if (!isSupportedImage(file.getMimeType())) {
+            return;
+        }
+        Job job = new Job(file.getId(),
+                file.getBlob() != null ? file.getBlob().getId() : null,
+                sourceKey(file),
+                file.getFilePath(),
+                derivativePrefix(file));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job);
+                }
+            });
+        } else {
+            submit(job);
+        }
+    }
+
+    // 원본이 삭제될 때 파생본도 커밋 후 삭제
+    public void deleteAfterCommit(FileEntity file) {
+        if (!isSupportedImage(file.getMimeType())) {
+            return;
+        }
+        String prefix = derivativePrefix(file);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteQuietly(List.of(derivativeKey(prefix, THUMBNAIL), derivativeKey(prefix, MEDIUM)));
+            }
+        });
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void submit(Job job) {
+        // 같은 이미지 작업이 이미 있으면 표시만 남기고 합침 (실행 중인 작업이 끝날 때 URL 을 다시 연결)
+        boolean[] first = {false};
+        pending.compute(job.prefix(), (prefix, rescheduled) -> {
+            first[0] = rescheduled == null;
+            return first[0] ? Boolean.FALSE : Boolean.TRUE;
+        });
+        if (!first[0]) {
+            log.debug("이미지 파생본 작업이 이미 진행 중: {}", job.prefix());
+            return;
+        }
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            pending.remove(job.prefix());
+            log.warn("이미지 파생본 작업 대기열이 가득 차 건너뜀: 파일 {}", job.fileId());
+        }
+    }
+
+    private void run(Job job) {
+        long start = System.currentTimeMillis();
+        boolean linked = false;
+        List<String> written = new ArrayList<>(2);
+        try {
+            // 대기하는 동안 원본이 삭제되었으면 만들지 않음
+            if (!sourceExists(job)) {
+                log.info("원본이 삭제되어 파생본을 만들지 않음: 파일 {}", job.fileId());
+                return;
+            }
+            String thumbnailKey = derivativeKey(job.prefix(), THUMBNAIL);
+            String mediumKey = derivativeKey(job.prefix(), MEDIUM);
+            if (!exists(thumbnailKey) || !exists(mediumKey)) {
+                BufferedImage source = readSource(job.sourceKey());
+                if (source == null) {
+                    log.info("이미지를 읽을 수 없어 파생본을 만들지 않음: 파일 {}", job.fileId());
+                    return;
+                }
+                // 큰 쪽부터 줄여 가며 중간 크기 결과를 썸네일의 원본으로 재사용
+                BufferedImage medium = resize(source, mediumSize);
+                put(mediumKey, medium);
+                written.add(mediumKey);
+                put(thumbnailKey, resize(medium, thumbnailSize));
+                written.add(thumbnailKey);
+                log.info("이미지 파생본 생성: 파일 {} ({}x{}) in {}ms", job.fileId(),
+                        source.getWidth(), source.getHeight(), System.currentTimeMillis() - start);
+            }
+
+            String thumbnailUrl = objectUrl(thumbnailKey);
+            String mediumUrl = objectUrl(mediumKey);
+            boolean sourceAlive = link(job, thumbnailUrl, mediumUrl);
+            // 작업 중 같은 이미지 파일이 더 커밋되었으면 그 파일에도 연결
+            while (sourceAlive && !pending.remove(job.prefix(), Boolean.FALSE)) {
+                pending.put(job.prefix(), Boolean.FALSE);
+                sourceAlive = link(job, thumbnailUrl, mediumUrl);
+            }
+            if (!sourceAlive) {
+                // 원본 삭제 후 커밋 시점의 파생본 정리가 이미 지나갔을 수 있으므로 방금 저장한 파생본을 직접 지움
+                log.info("작업 중 원본이 삭제되어 파생본을 연결하지 않음: 파일 {}", job.fileId());
+                deleteQuietly(written);
+                return;
+            }
+            linked = true;
+        } catch (Exception e) {
+            log.error("이미지 파생본 생성 실패: 파일 {} ({})", job.fileId(), e.getMessage());
+        } finally {
+            if (!linked) {
+                pending.remove(job.prefix());
+            }
+        }
+    }
+
+    // 원본을 참조하는 파일이 남아 있을 때만 URL 을 연결 (모두 삭제되었으면 false)
+    private boolean link(Job job, String thumbnailUrl, String mediumUrl) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            // 삭제 트랜잭션이 진행 중이면 파일 행 잠금을 기다렸다가 커밋된 결과 기준으로 갱신
+            int updated = job.blobId() != null
+                    ? fileRepository.updateDerivativesByBlobId(job.blobId(), thumbnailUrl, mediumUrl)
+                    : fileRepository.updateDerivativesById(job.fileId(), thumbnailUrl, mediumUrl);
+            if (updated == 0) {
+                return false;
+            }
+            userRepository.updateProfileThumbnailUrl(job.filePath(), thumbnailUrl);
+            return true;
+        }));
+    }
+
+    private boolean sourceExists(Job job) {
+        return job.blobId() != null
+                ? fileBlobRepository.existsById(job.blobId())
+                : fileRepository.existsById(job.fileId());
+    }
+
+    private void deleteQuietly(List<String> keys) {
+        for (String key : keys) {
+            try {
+                blobStore.delete(key);
+            } catch (Exception e) {
+                log.warn("이미지 파생본 삭제 실패: {} ({})", key, e.getMessage());
+            }
+        }
+    }
+
+    private BufferedImage readSource(String key) throws IOException {
+        try (InputStream in = blobStore.open(key);
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                // 헤더의 크기만 보고 디코딩 전에 거부 (작은 파일로 거대한 비트맵을 만드는 이미지 방지)
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IOException("이미지가 너무 큽니다: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxSize 가 되도록 축소 (확대하지 않음). 절반씩 줄여 나가 한 번에 크게 줄일 때의 계단 현상을 줄임
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // JPEG 은 투명도가 없으므로 흰 배경 위에 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void put(String key, BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream out = new MemoryCacheImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        // 키가 내용 기준으로 고정되므로 한 번 만든 파생본은 바뀌지 않음
+        blobStore.put(key, bytes.toByteArray(), "image/jpeg", "public, max-age=31536000, immutable");
+    }
+
+    private boolean exists(String key) {
+        return blobStore.stat(key).isPresent();
+    }
+
+    private boolean isSupportedImage(String mimeType) {
+        return mimeType != null && mimeType.startsWith("image/")
+                && ImageIO.getImageReadersByMIMEType(mimeType).hasNext();
+    }
+
+    private String sourceKey(FileEntity file) {
+        return file.getBlob() != null ? file.getBlob().getStorageKey() : "uploads/" + file.getStoredFileName();
+    }
+
+    // blob 이 있으면 내용 해시, 없으면 파일 id 기준
+    private String derivativePrefix(FileEntity file) {
+        return file.getBlob() != null ? file.getBlob().getSha256() : "file-" + file.getId();
+    }
+
+    private String derivativeKey(String prefix, String name) {
+        return "derivatives/" + prefix + "/" + name + ".jpg";
+    }
+
+    private String objectUrl(String key) {
+        return blobStore.url(key);
+    }
+
+    private record Job(Long fileId, Long blobId, String sourceKey, String filePath, String prefix) {
+    }
+}
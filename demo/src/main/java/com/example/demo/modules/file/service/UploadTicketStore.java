@@ -0,0 +1,49 @@
+package com.example.demo.modules.file.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * presigned 업로드 티켓 보관소.
+ * 티켓 발급 시 업로드할 S3 키와 업로더를 묶어 두고, 업로드 확인(confirm) 때 한 번만 꺼내 쓴다.
+ * 꺼내기는 원자적이어서 같은 티켓으로 동시에 확인 요청이 와도 한 요청만 티켓을 얻는다.
+ * presigned URL 이 만료된 뒤에도 업로드를 마무리할 수 있도록 URL 유효 시간보다 조금 더 보관한다.
+ */
+@Component
+public class UploadTicketStore {
+
+    private final Cache<String, Ticket> tickets;
+
+    public UploadTicketStore(@Value("${aws.s3.presign.upload-ttl-seconds:900}") long uploadTtlSeconds,
+                             @Value("${file.upload.ticket-max-size:100000}") long maxSize) {
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(uploadTtlSeconds * 2))
+                .build();
+    }
+
+    public String issue(Ticket ticket) {
+        String id = UUID.randomUUID().toString();
+        tickets.put(id, ticket);
+        return id;
+    }
+
+    // 티켓을 꺼내면서 지운다 (없거나 이미 다른 요청이 꺼냈으면 null)
+    public Ticket consume(String id) {
+        return tickets.asMap().remove(id);
+    }
+
+    // 확인에 실패한 티켓을 같은 ID 로 되돌려 다시 시도할 수 있게 한다
+    public void restore(String id, Ticket ticket) {
+        tickets.asMap().putIfAbsent(id, ticket);
+    }
+
+    public record Ticket(Long uploaderId, String key, String storedFileName, String originalFileName,
+                         String contentType, long fileSize, String sha256) {
+    }
+}
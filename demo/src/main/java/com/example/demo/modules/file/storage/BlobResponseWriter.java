@@ -0,0 +1,118 @@
+package com.example.demo.modules.file.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장소의 객체를 애플리케이션이 직접 응답으로 전송 (presigned URL 을 쓰지 않는 저장소용).
+ * 단일 Range 요청은 206 으로 해당 구간만 보내고, 로컬 파일이면 Tomcat sendfile 로 커널에서 바로 소켓으로 복사한다.
+ * 저장소 키는 내용이 바뀌지 않으므로 If-Range 검증 없이 구간 요청을 그대로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String DERIVATIVE_PREFIX = "derivatives/";
+
+    private final BlobStore blobStore;
+
+    /**
+     * key 의 내용을 응답으로 전송한다. 객체가 없으면 아무것도 쓰지 않고 false 를 반환한다.
+     * contentType 이 null 이면 저장소가 아는 타입, 그것도 없으면 application/octet-stream 을 사용한다.
+     */
+    public boolean write(String key, String contentType, String contentDisposition, CacheControl cacheControl,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<BlobStore.BlobMetadata> metadata = blobStore.stat(key);
+        if (metadata.isEmpty()) {
+            return false;
+        }
+        long size = metadata.get().size();
+        long start = 0;
+        long end = size - 1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 선언한 Content-Type 과 다르게 해석(스니핑)하지 않도록
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && size > 0) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // 여러 구간 요청은 전체를 보냄 (multipart/byteranges 는 지원하지 않음)
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+                if (start >= size || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return true;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = size == 0 ? 0 : end - start + 1;
+        response.setContentType(contentType != null ? contentType
+                : metadata.get().contentType() != null ? metadata.get().contentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+        if (contentDisposition != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        }
+        if (length == 0) {
+            return true;
+        }
+
+        Optional<Path> localPath = blobStore.localPath(key);
+        if (localPath.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, localPath.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return true;
+        }
+        blobStore.transferTo(key, start, length, Channels.newChannel(response.getOutputStream()));
+        return true;
+    }
+
+    /**
+     * 로컬 저장소 객체 URL(/api/files/objects/...) 응답. 키가 바뀌지 않으므로 오래 캐시해도 됨.
+     * 애플리케이션이 직접 만든 이미지 파생본(derivatives/*.jpg)만 인라인으로 보내고, 사용자가 올린 파일은
+     * 확장자와 관계없이 첨부 파일로 내려보낸다 (API 도메인에서 HTML/SVG 가 실행되지 않도록).
+     */
+    public boolean writeLocalObject(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (blobStore.localPath(key).isEmpty()) {
+            return false;
+        }
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        if (isDerivative(key)) {
+            return write(key, MediaType.IMAGE_JPEG_VALUE, null, cacheControl, request, response);
+        }
+        return write(key, MediaType.APPLICATION_OCTET_STREAM_VALUE, "attachment", cacheControl, request, response);
+    }
+
+    private static boolean isDerivative(String key) {
+        return key.startsWith(DERIVATIVE_PREFIX) && key.endsWith(".jpg") && !key.contains("..");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.modules.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 파일 내용 저장소 SPI.
+ * file.storage.type 설정으로 구현체(s3, local)를 선택하며, 키는 "uploads/..." 처럼 저장소 안의 상대 경로다.
+ * 저장된 객체는 키가 바뀌지 않는 한 내용도 바뀌지 않는다고 가정한다 (키는 업로드마다 새로 만들거나 내용 해시로 정함).
+ */
+public interface BlobStore {
+
+    // 스트림을 끝까지 읽어 저장하고 SHA-256 을 함께 계산 (contentLength 를 모르면 -1)
+    StoredObject write(String key, InputStream in, long contentLength, String contentType);
+
+    // 메모리에 있는 작은 내용을 저장 (이미지 파생본 등)
+    void put(String key, byte[] content, String contentType, String cacheControl);
+
+    InputStream open(String key) throws IOException;
+
+    Optional<BlobMetadata> stat(String key);
+
+    void delete(String key);
+
+    // position 부터 count 바이트를 target 으로 전송하고 전송한 바이트 수를 반환
+    long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    // 객체를 가리키는 URL (FileEntity.filePath 등에 저장)
+    String url(String key);
+
+    long getMaxSize();
+
+    // 클라이언트가 저장소로 직접 업로드할 URL (지원하지 않으면 empty). sha256 을 주면 저장소가 내용을 검증
+    Optional<DirectUpload> presignUpload(String key, String contentType, long contentLength, String sha256);
+
+    // 클라이언트가 저장소에서 직접 내려받을 URL (지원하지 않으면 empty, 애플리케이션이 직접 전송)
+    Optional<String> presignDownload(String key, String contentDisposition);
+
+    // 로컬 디스크에 있는 객체라면 그 경로 (서블릿 컨테이너의 sendfile 에 사용)
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    record StoredObject(String key, long size, String sha256) {
+    }
+
+    // sha256 은 저장소가 검증한 체크섬이 있을 때만 (hex)
+    record BlobMetadata(long size, String contentType, String sha256) {
+    }
+
+    record DirectUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.demo.modules.file.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 로컬 디스크 저장소 (단일 서버 운영, 테스트/벤치마크용).
+ * 쓰기는 같은 파일시스템의 임시 파일에 끝까지 기록하고 fsync 한 뒤 원자적으로 이름을 바꿔, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+ * 읽기는 FileChannel.transferTo 로 커널에서 바로 복사하며, 객체 URL 은 애플리케이션의 객체 조회 API 를 가리킨다.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local")
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private static final String TEMP_DIR = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tempDir;
+    private final String baseUrl;
+    private final long maxSize;
+
+    public LocalBlobStore(@Value("${file.upload-dir:./uploads}") String uploadDir,
+                          @Value("${file.storage.local.base-url:/api/files/objects/}") String baseUrl,
+                          @Value("${file.upload.max-size:5GB}") DataSize maxSize) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tempDir = root.resolve(TEMP_DIR);
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.maxSize = maxSize.toBytes();
+        try {
+            Files.createDirectories(tempDir);
+            clearTempDir();
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 저장 디렉토리를 만들 수 없습니다: " + root, e);
+        }
+        log.info("로컬 파일 저장소 사용: {}", root);
+    }
+
+    @Override
+    public StoredObject write(String key, InputStream in, long contentLength, String contentType) {
+        if (contentLength > maxSize) {
+            throw new RuntimeException("파일 크기가 허용된 최대 크기를 초과합니다: " + contentLength + " > " + maxSize);
+        }
+        Path target = resolve(key);
+        MessageDigest sha256 = newSha256();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "upload-", ".part");
+            long total = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxSize) {
+                        throw new RuntimeException("파일 크기가 허용된 최대 크기를 초과합니다: " + maxSize);
+                    }
+                    sha256.update(buffer, 0, read);
+                    wrapped.clear().limit(read);
+                    while (wrapped.hasRemaining()) {
+                        channel.write(wrapped);
+                    }
+                }
+                channel.force(false);
+            }
+            if (total == 0) {
+                throw new RuntimeException("업로드할 파일이 없습니다");
+            }
+            if (contentLength >= 0 && contentLength != total) {
+                throw new RuntimeException("업로드된 크기가 Content-Length 와 다릅니다: " + total + " != " + contentLength);
+            }
+            moveIntoPlace(temp, target);
+            return new StoredObject(key, total, HexFormat.of().formatHex(sha256.digest()));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType, String cacheControl) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "put-", ".part");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            moveIntoPlace(temp, target);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Optional<BlobMetadata> stat(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            String contentType = MediaTypeFactory.getMediaType(key).map(MediaType::toString).orElse(null);
+            return Optional.of(new BlobMetadata(Files.size(path), contentType, null));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 삭제에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 대상이 소켓/파일 채널이면 커널 안에서 복사되고(zero-copy), 그 밖의 채널이면 JDK 가 버퍼로 나눠 복사
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = Math.min(position + count, channel.size());
+            long current = position;
+            while (current < end) {
+                long transferred = channel.transferTo(current, end - current, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                current += transferred;
+            }
+            return current - position;
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return baseUrl + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    // 클라이언트가 직접 접근할 저장소가 없으므로 항상 애플리케이션을 거침
+    @Override
+    public Optional<DirectUpload> presignUpload(String key, String contentType, long contentLength, String sha256) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> presignDownload(String key, String contentDisposition) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 키가 저장 디렉토리 밖(../ 등)이나 임시 디렉토리를 가리키지 않도록 확인
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(tempDir)) {
+            throw new RuntimeException("잘못된 파일 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 이전 실행이 중간에 끝나며 남긴 임시 파일 정리
+    private void clearTempDir() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDir)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.demo.modules.file.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * S3 저장소.
+ * 업로드는 S3StreamingUploader 로 멀티파트 스트리밍하고, 클라이언트 직접 업로드/다운로드는 presigned URL 로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3StreamingUploader streamingUploader;
+    private final String bucketName;
+    private final Duration uploadTtl;
+    private final Duration downloadTtl;
+
+    public S3BlobStore(S3Client s3Client,
+                       S3Presigner s3Presigner,
+                       S3StreamingUploader streamingUploader,
+                       @Value("${aws.s3.bucket-name}") String bucketName,
+                       @Value("${aws.s3.presign.upload-ttl-seconds:900}") long uploadTtlSeconds,
+                       @Value("${aws.s3.presign.download-ttl-seconds:300}") long downloadTtlSeconds) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.streamingUploader = streamingUploader;
+        this.bucketName = bucketName;
+        this.uploadTtl = Duration.ofSeconds(uploadTtlSeconds);
+        this.downloadTtl = Duration.ofSeconds(downloadTtlSeconds);
+    }
+
+    @Override
+    public StoredObject write(String key, InputStream in, long contentLength, String contentType) {
+        return streamingUploader.upload(key, in, contentLength, contentType);
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType, String cacheControl) {
+        s3Client.putObject(request -> request
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .cacheControl(cacheControl),
+                RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(request -> request.bucket(bucketName).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new IOException("저장된 파일이 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<BlobMetadata> stat(String key) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(request -> request.bucket(bucketName).key(key)
+                    .checksumMode(ChecksumMode.ENABLED));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+        // 업로드 시 SHA-256 체크섬을 함께 보낸 객체만 S3 가 검증한 값을 돌려줌
+        String sha256 = head.checksumSHA256() != null
+                ? HexFormat.of().formatHex(Base64.getDecoder().decode(head.checksumSHA256()))
+                : null;
+        return Optional.of(new BlobMetadata(head.contentLength(), head.contentType(), sha256));
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(request -> request.bucket(bucketName).key(key));
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        if (count <= 0) {
+            return 0;
+        }
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request -> request
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=" + position + "-" + (position + count - 1)))) {
+            return in.transferTo(Channels.newOutputStream(target));
+        } catch (NoSuchKeyException e) {
+            throw new IOException("저장된 파일이 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return s3Client.utilities().getUrl(request -> request.bucket(bucketName).key(key)).toExternalForm();
+    }
+
+    @Override
+    public long getMaxSize() {
+        return streamingUploader.getMaxSize();
+    }
+
+    // Content-Type/Content-Length(와 SHA-256)를 서명에 포함시켜 발급한 내용과 다른 업로드는 S3 가 거부하도록 함
+    @Override
+    public Optional<DirectUpload> presignUpload(String key, String contentType, long contentLength, String sha256) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presign -> presign
+                .signatureDuration(uploadTtl)
+                .putObjectRequest(put -> put
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .checksumSHA256(sha256 != null
+                                ? Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256))
+                                : null)));
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return Optional.of(new DirectUpload(presigned.url().toExternalForm(),
+                presigned.httpRequest().method().name(), headers, presigned.expiration()));
+    }
+
+    @Override
+    public Optional<String> presignDownload(String key, String contentDisposition) {
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presign -> presign
+                .signatureDuration(downloadTtl)
+                .getObjectRequest(get -> get
+                        .bucket(bucketName)
+                        .key(key)
+                        .responseContentDisposition(contentDisposition)));
+        return Optional.of(presigned.url().toExternalForm());
+    }
+}
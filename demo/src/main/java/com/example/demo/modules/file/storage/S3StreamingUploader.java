@@ -0,0 +1,308 @@
+package com.example.demo.modules.file.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * 요청 본문을 디스크/메모리에 모으지 않고 S3 멀티파트 업로드로 바로 흘려보내는 업로더.
+ * 스트림을 파트 크기만큼 읽을 때마다 비동기 클라이언트로 파트를 올린다. 버퍼 메모리는 동시 업로드 수(초과 시 즉시 거절)와
+ * 업로드별 파트 수로 제한하므로, 클라이언트가 느리게 보내는 업로드는 자기 몫의 버퍼만 잡고 다른 업로드를 기다리게 하지 않는다.
+ * 읽는 동안 전체 SHA-256 을 계산하고, 파트마다 CRC32 를 함께 보내 S3 가 검증하게 한다.
+ * 한 파트보다 작은 파일은 멀티파트 없이 한 번에 올린다.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
+@Slf4j
+public class S3StreamingUploader {
+
+    // S3 멀티파트 제약 (파트 수 최대 10,000, 마지막 파트 외 최소 5MB)
+    private static final int MAX_PARTS = 10_000;
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long PART_SIZE_ALIGNMENT = 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final long maxSize;
+    private final long minPartSize;
+    private final long maxPartSize;
+    private final Semaphore activeUploads;
+    private final int partsPerUpload;
+    private final long partWaitSeconds;
+
+    public S3StreamingUploader(S3AsyncClient s3AsyncClient,
+                               @Value("${aws.s3.bucket-name}") String bucketName,
+                               @Value("${file.upload.max-size:5GB}") DataSize maxSize,
+                               @Value("${file.upload.min-part-size:8MB}") DataSize minPartSize,
+                               @Value("${file.upload.max-part-size:64MB}") DataSize maxPartSize,
+                               @Value("${file.upload.max-in-flight-parts:8}") int maxInFlightParts,
+                               @Value("${file.upload.max-concurrent-uploads:4}") int maxConcurrentUploads,
+                               @Value("${file.upload.part-wait-seconds:60}") long partWaitSeconds) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = bucketName;
+        this.maxSize = maxSize.toBytes();
+        this.minPartSize = Math.max(MIN_PART_SIZE, minPartSize.toBytes());
+        this.maxPartSize = Math.max(this.minPartSize, maxPartSize.toBytes());
+        this.activeUploads = new Semaphore(maxConcurrentUploads);
+        // 전체 파트 버퍼 수를 동시 업로드 수로 나눠 업로드마다 고정 배분
+        this.partsPerUpload = Math.max(1, maxInFlightParts / maxConcurrentUploads);
+        this.partWaitSeconds = partWaitSeconds;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 key 로 업로드한다.
+     * contentLength 를 모르면(-1) 최대 허용 크기를 기준으로 파트 크기를 정한다.
+     */
+    public BlobStore.StoredObject upload(String key, InputStream in, long contentLength, String contentType) {
+        if (contentLength > maxSize) {
+            throw new RuntimeException("파일 크기가 허용된 최대 크기를 초과합니다: " + contentLength + " > " + maxSize);
+        }
+        if (!activeUploads.tryAcquire()) {
+            throw new UploadCapacityExceededException("동시 스트리밍 업로드가 너무 많습니다. 잠시 후 다시 시도하세요");
+        }
+        try {
+            return upload(key, in, contentLength, contentType, new Semaphore(partsPerUpload));
+        } finally {
+            activeUploads.release();
+        }
+    }
+
+    private BlobStore.StoredObject upload(String key, InputStream in, long contentLength, String contentType,
+                                          Semaphore inFlightParts) {
+        int partSize = partSizeFor(contentLength >= 0 ? contentLength : maxSize);
+        MessageDigest sha256 = newSha256();
+
+        acquirePart(inFlightParts);
+        byte[] first;
+        int firstLength;
+        try {
+            // 파일이 한 파트보다 작으면 그 크기만큼만 버퍼를 잡음
+            first = new byte[contentLength >= 0 ? (int) Math.min(partSize, contentLength + 1) : partSize];
+            firstLength = in.readNBytes(first, 0, first.length);
+        } catch (IOException e) {
+            inFlightParts.release();
+            throw new RuntimeException("업로드 스트림을 읽지 못했습니다: " + e.getMessage(), e);
+        } catch (RuntimeException | Error e) {
+            inFlightParts.release();
+            throw e;
+        }
+
+        if (firstLength == 0) {
+            inFlightParts.release();
+            throw new RuntimeException("업로드할 파일이 없습니다");
+        }
+        sha256.update(first, 0, firstLength);
+
+        if (firstLength < partSize) {
+            try {
+                return putSingle(key, first, firstLength, contentLength, contentType, sha256);
+            } finally {
+                inFlightParts.release();
+            }
+        }
+        return putMultipart(key, in, first, partSize, contentLength, contentType, sha256, inFlightParts);
+    }
+
+    private BlobStore.StoredObject putSingle(String key, byte[] buffer, int length, long contentLength, String contentType,
+                                   MessageDigest sha256) {
+        verifyLength(contentLength, length);
+        await(s3AsyncClient.putObject(request -> request
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) length)
+                        .checksumCRC32(crc32(buffer, length)),
+                AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, length))));
+        return new BlobStore.StoredObject(key, length, HexFormat.of().formatHex(sha256.digest()));
+    }
+
+    private BlobStore.StoredObject putMultipart(String key, InputStream in, byte[] first, int partSize, long contentLength,
+                                      String contentType, MessageDigest sha256, Semaphore inFlightParts) {
+        String uploadId;
+        try {
+            uploadId = await(s3AsyncClient.createMultipartUpload(request -> request
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .checksumAlgorithm(ChecksumAlgorithm.CRC32))).uploadId();
+        } catch (RuntimeException e) {
+            inFlightParts.release();
+            throw e;
+        }
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long total = first.length;
+        try {
+            parts.add(uploadPart(key, uploadId, 1, first, first.length, failure, inFlightParts));
+            for (int partNumber = 2; ; partNumber++) {
+                // 앞서 올린 파트가 실패했으면 나머지 스트림을 읽지 않고 중단
+                if (failure.get() != null) {
+                    throw new CompletionException(failure.get());
+                }
+                acquirePart(inFlightParts);
+                int length;
+                byte[] buffer;
+                try {
+                    buffer = new byte[partSize];
+                    length = in.readNBytes(buffer, 0, partSize);
+                } catch (IOException | RuntimeException | Error e) {
+                    inFlightParts.release();
+                    throw e;
+                }
+                if (length == 0) {
+                    inFlightParts.release();
+                    break;
+                }
+                total += length;
+                if (total > maxSize || partNumber > MAX_PARTS) {
+                    inFlightParts.release();
+                    throw new RuntimeException("파일 크기가 허용된 최대 크기를 초과합니다: " + maxSize);
+                }
+                sha256.update(buffer, 0, length);
+                parts.add(uploadPart(key, uploadId, partNumber, buffer, length, failure, inFlightParts));
+                if (length < partSize) {
+                    break;
+                }
+            }
+            verifyLength(contentLength, total);
+
+            List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (CompletableFuture<CompletedPart> part : parts) {
+                completedParts.add(await(part));
+            }
+            await(s3AsyncClient.completeMultipartUpload(request -> request
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts))));
+
+            log.debug("S3 멀티파트 업로드 완료: {} ({} bytes, 파트 {}개 x {} bytes)", key, total, parts.size(), partSize);
+            return new BlobStore.StoredObject(key, total, HexFormat.of().formatHex(sha256.digest()));
+        } catch (Exception e) {
+            abort(key, uploadId, parts);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("S3 업로드에 실패했습니다: " + cause.getMessage(), cause);
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber,
+                                                        byte[] buffer, int length, AtomicReference<Throwable> failure,
+                                                        Semaphore inFlightParts) {
+        String checksum = crc32(buffer, length);
+        CompletableFuture<CompletedPart> future;
+        try {
+            future = s3AsyncClient.uploadPart(request -> request
+                                    .bucket(bucketName)
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber)
+                                    .contentLength((long) length)
+                                    .checksumCRC32(checksum),
+                            AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, length)))
+                    .thenApply(response -> CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .checksumCRC32(response.checksumCRC32())
+                            .build());
+        } catch (RuntimeException e) {
+            inFlightParts.release();
+            throw e;
+        }
+        // 파트 전송이 끝나면(성공/실패 무관) 버퍼를 놓고 다음 파트를 읽을 수 있게 함
+        return future.whenComplete((part, error) -> {
+            inFlightParts.release();
+            if (error != null) {
+                failure.compareAndSet(null, error);
+            }
+        });
+    }
+
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        // 진행 중인 파트가 끝난 뒤 취소해야 S3 에 고아 파트가 남지 않음
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .thenCompose(ignored -> s3AsyncClient.abortMultipartUpload(request -> request
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.warn("S3 멀티파트 업로드 취소 실패: {} ({})", key, error.getMessage());
+                    }
+                });
+    }
+
+    // 파일 크기에 맞춰 파트 크기 결정 (파트 수 제한을 넘지 않도록 키우고, MB 단위로 정렬)
+    private int partSizeFor(long expectedSize) {
+        long size = Math.max(minPartSize, (expectedSize + MAX_PARTS - 1) / MAX_PARTS);
+        size = (size + PART_SIZE_ALIGNMENT - 1) / PART_SIZE_ALIGNMENT * PART_SIZE_ALIGNMENT;
+        return (int) Math.min(size, Math.min(maxPartSize, Integer.MAX_VALUE - 8));
+    }
+
+    private void acquirePart(Semaphore inFlightParts) {
+        try {
+            if (!inFlightParts.tryAcquire(partWaitSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("업로드 대기 시간이 초과되었습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("업로드가 중단되었습니다");
+        }
+    }
+
+    private static void verifyLength(long contentLength, long actual) {
+        if (contentLength >= 0 && contentLength != actual) {
+            throw new RuntimeException("업로드된 크기가 Content-Length 와 다릅니다: " + actual + " != " + contentLength);
+        }
+    }
+
+    private static String crc32(byte[] buffer, int length) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer, 0, length);
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) crc32.getValue()).array());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("S3 요청 실패: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.modules.file.storage;
+
+/**
+ * 동시 스트리밍 업로드 수가 file.upload.max-concurrent-uploads 에 도달해 새 업로드를 받을 수 없을 때 발생.
+ */
+public class UploadCapacityExceededException extends RuntimeException {
+
+    public UploadCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.modules.notification.controller;
 
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.modules.notification.dto.NotificationDto;
 import com.example.demo.modules.notification.enums.NotificationType;
 import com.example.demo.modules.notification.service.NotificationService;
@@ -70,6 +71,23 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @Operation(summary = "내 알림 목록 (커서)", description = "현재 로그인한 사용자의 알림을 커서 기반으로 조회합니다. unreadOnly=true 이면 읽지 않은 알림만 조회합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/my/cursor")
+    public ResponseEntity<CursorPage<NotificationDto.Response>> getMyNotificationsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPage<NotificationDto.Response> notifications = notificationService
+                    .getNotificationsByCursor(userPrincipal.getId(), unreadOnly, cursor, size);
+            return ResponseEntity.ok(notifications);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "읽지 않은 알림", description = "현재 로그인한 사용자의 읽지 않은 알림을 조회합니다.")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/my/unread")
@@ -138,6 +156,16 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "알림 일괄 읽음 처리", description = "지정한 알림들을 한 번에 읽음으로 표시합니다. (최대 1000개)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping("/my/read")
+    public ResponseEntity<NotificationDto.BulkResponse> markAsReadBulk(
+            @Valid @RequestBody NotificationDto.BulkRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        int updated = notificationService.markAsRead(request.getIds(), userPrincipal.getId());
+        return ResponseEntity.ok(NotificationDto.BulkResponse.builder().affectedCount(updated).build());
+    }
+
     @Operation(summary = "알림 삭제", description = "특정 알림을 삭제합니다.")
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/{id}")
@@ -152,6 +180,16 @@ public class NotificationController {
         }
     }
 
+    @Operation(summary = "알림 일괄 삭제", description = "지정한 알림들을 한 번에 삭제합니다. (최대 1000개)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/my/delete")
+    public ResponseEntity<NotificationDto.BulkResponse> deleteNotificationsBulk(
+            @Valid @RequestBody NotificationDto.BulkRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        int deleted = notificationService.deleteNotifications(request.getIds(), userPrincipal.getId());
+        return ResponseEntity.ok(NotificationDto.BulkResponse.builder().affectedCount(deleted).build());
+    }
+
     @Operation(summary = "읽은 알림 모두 삭제", description = "현재 로그인한 사용자의 읽은 알림을 모두 삭제합니다.")
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/my/read")
@@ -0,0 +1,32 @@
+package com.example.demo.modules.notification.controller;
+
+import com.example.demo.modules.notification.dto.NotificationDto;
+import com.example.demo.modules.notification.service.NotificationPushService;
+import com.example.demo.modules.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationWebSocketController {
+
+    private final NotificationService notificationService;
+
+    // 재연결 시 마지막으로 받은 알림 ID 이후의 알림만 전달
+    @MessageMapping("/notifications/resume")
+    @SendToUser(NotificationPushService.DESTINATION)
+    public NotificationDto.PushEvent resume(NotificationDto.ResumeRequest request, Principal principal) {
+        if (principal == null) {
+            log.debug("인증되지 않은 세션의 알림 resume 요청 무시");
+            return null;
+        }
+        Long userId = Long.parseLong(principal.getName());
+        return notificationService.getMissedNotifications(userId, request.getLastId());
+    }
+}
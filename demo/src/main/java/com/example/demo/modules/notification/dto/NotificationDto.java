@@ -1,5 +1,6 @@
 package com.example.demo.modules.notification.dto;
 
+import com.example.demo.modules.notification.enums.NotificationPushType;
 import com.example.demo.modules.notification.enums.NotificationType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -8,8 +9,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class NotificationDto {
 
@@ -94,4 +98,52 @@ public class NotificationDto {
     public static class UnreadCountResponse {
         private Long count;
     }
-} 
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NotificationPushEvent", description = "실시간 알림 푸시 이벤트 DTO (/user/queue/notifications)")
+    public static class PushEvent {
+        private NotificationPushType type;
+        private List<Response> notifications;
+
+        @Schema(description = "읽지 않은 알림 수 증감 (RESUME 이벤트에서는 null)")
+        private Long unreadDelta;
+
+        @Schema(description = "읽지 않은 알림 수 (RESUME 이벤트에서만 제공)")
+        private Long unreadCount;
+
+        @Schema(description = "전달되지 않은 알림이 더 있는지 (lastId 로 다시 resume 요청)")
+        private Boolean hasMore;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NotificationResumeRequest", description = "재연결 시 놓친 알림 요청 DTO (/app/notifications/resume)")
+    public static class ResumeRequest {
+        private Long lastId;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NotificationBulkRequest", description = "알림 일괄 처리 요청 DTO")
+    public static class BulkRequest {
+        @NotEmpty(message = "알림 ID 목록은 필수입니다")
+        @Size(max = 1000, message = "한 번에 최대 1000개까지 처리할 수 있습니다")
+        private List<Long> ids;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NotificationBulkResponse", description = "알림 일괄 처리 결과 DTO")
+    public static class BulkResponse {
+        private Integer affectedCount;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.modules.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용자별 읽지 않은 알림 수 (알림 변경과 같은 트랜잭션에서 증감)
+@Entity
+@Table(name = "notification_unread_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long unreadCount;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,7 @@
+package com.example.demo.modules.notification.enums;
+
+public enum NotificationPushType {
+    NOTIFICATIONS,
+    UNREAD_DELTA,
+    RESUME
+}
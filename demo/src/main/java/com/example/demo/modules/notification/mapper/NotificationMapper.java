@@ -0,0 +1,41 @@
+package com.example.demo.modules.notification.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.notification.dto.NotificationDto;
+import com.example.demo.modules.notification.entity.Notification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationMapper implements Mapper<Notification, NotificationDto.Response> {
+
+    @Override
+    public NotificationDto.Response map(Notification notification) {
+        NotificationDto.RecipientInfo recipientInfo = NotificationDto.RecipientInfo.builder()
+                .id(notification.getRecipient().getId())
+                .name(notification.getRecipient().getName())
+                .email(notification.getRecipient().getEmail())
+                .build();
+
+        NotificationDto.SenderInfo senderInfo = null;
+        if (notification.getSender() != null) {
+            senderInfo = NotificationDto.SenderInfo.builder()
+                    .id(notification.getSender().getId())
+                    .name(notification.getSender().getName())
+                    .email(notification.getSender().getEmail())
+                    .build();
+        }
+
+        return NotificationDto.Response.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .recipient(recipientInfo)
+                .sender(senderInfo)
+                .relatedEntityId(notification.getRelatedEntityId())
+                .relatedEntityType(notification.getRelatedEntityType())
+                .isRead(notification.getIsRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -2,13 +2,16 @@ package com.example.demo.modules.notification.repository;
 
 import com.example.demo.modules.notification.entity.Notification;
 import com.example.demo.modules.notification.enums.NotificationType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -24,6 +27,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     List<Notification> findByRecipientIdAndTypeOrderByCreatedAtDesc(Long recipientId, NotificationType type);
 
+    boolean existsByIdAndRecipientId(Long id, Long recipientId);
+
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :recipientId AND n.isRead = false")
     long countUnreadByRecipientId(@Param("recipientId") Long recipientId);
 
@@ -38,7 +43,52 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             Pageable pageable
     );
 
-    void deleteByRecipientIdAndIsReadTrue(Long recipientId);
+    // 커서(keyset) 페이지네이션 - COUNT 쿼리 없이 (createdAt, id) 기준으로 다음 페이지를 조회
+    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :recipientId AND " +
+           "(:isRead IS NULL OR n.isRead = :isRead) AND " +
+           "(:cursorCreatedAt IS NULL OR (n.createdAt <= :cursorCreatedAt AND " +
+           "(n.createdAt < :cursorCreatedAt OR n.id < :cursorId))) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findRecipientFeed(
+            @Param("recipientId") Long recipientId,
+            @Param("isRead") Boolean isRead,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    // 사용자별 읽지 않은 알림 수 (카운터 정합성 보정용)
+    @Query("SELECT n.recipient.id, COUNT(n) FROM Notification n WHERE n.isRead = false GROUP BY n.recipient.id")
+    List<Object[]> countUnreadGroupByRecipientId();
+
+    // 재연결 시 놓친 알림 조회 (lastId 이후, 오래된 순)
+    @Query("SELECT n FROM Notification n JOIN FETCH n.recipient LEFT JOIN FETCH n.sender " +
+           "WHERE n.recipient.id = :recipientId AND n.id > :lastId ORDER BY n.id ASC")
+    List<Notification> findMissedByRecipientId(
+            @Param("recipientId") Long recipientId,
+            @Param("lastId") Long lastId,
+            Limit limit
+    );
+
+    // 대량 변경 - 엔티티를 읽지 않고 단일 UPDATE/DELETE 문으로 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipient.id = :recipientId AND n.isRead = false")
+    int markAllAsReadByRecipientId(@Param("recipientId") Long recipientId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.recipient.id = :recipientId AND n.isRead = false AND n.id IN :ids")
+    int markAsReadByRecipientIdAndIdIn(@Param("recipientId") Long recipientId, @Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.recipient.id = :recipientId AND n.id IN :ids")
+    int deleteByRecipientIdAndIdIn(@Param("recipientId") Long recipientId, @Param("ids") List<Long> ids);
+
+    // 한 번에 limit 건씩 삭제 (대량 삭제 시 잠금/언두 로그 크기 제한)
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE recipient_id = :recipientId AND is_read = true LIMIT :limit",
+           nativeQuery = true)
+    int deleteReadByRecipientIdLimit(@Param("recipientId") Long recipientId, @Param("limit") int limit);
 
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :recipientId")
     long countByRecipientId(@Param("recipientId") Long recipientId);
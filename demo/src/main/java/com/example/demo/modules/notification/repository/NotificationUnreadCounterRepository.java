@@ -0,0 +1,39 @@
+package com.example.demo.modules.notification.repository;
+
+import com.example.demo.modules.notification.entity.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    @Query("SELECT c.unreadCount FROM NotificationUnreadCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCountByUserId(@Param("userId") Long userId);
+
+    // 행이 없으면 생성, 있으면 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO notification_unread_counters (user_id, unread_count, updated_at) " +
+                   "VALUES (:userId, GREATEST(:delta, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + :delta, 0), updated_at = NOW()",
+           nativeQuery = true)
+    int addDelta(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notification_unread_counters (user_id, unread_count, updated_at) " +
+                   "VALUES (:userId, 0, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    // 실제 알림 테이블 기준으로 다시 계산 (정합성 보정용)
+    @Modifying
+    @Query(value = "UPDATE notification_unread_counters SET unread_count = " +
+                   "(SELECT COUNT(*) FROM notifications n WHERE n.recipient_id = :userId AND n.is_read = false), " +
+                   "updated_at = NOW() WHERE user_id = :userId",
+           nativeQuery = true)
+    int recount(@Param("userId") Long userId);
+}
@@ -0,0 +1,114 @@
+package com.example.demo.modules.notification.service;
+
+import com.example.demo.modules.notification.dto.NotificationDto;
+import com.example.demo.modules.notification.enums.NotificationPushType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 실시간 전송 (/user/{id}/queue/notifications).
+ * 커밋된 알림과 읽지 않은 알림 수 변화를 사용자별로 모아 두었다가 coalesce-ms 마다 한 번에 전송한다.
+ * 짧은 시간에 알림이 몰려도 사용자당 한 번의 푸시로 합쳐지며, 접속하지 않은 사용자는 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPushService {
+
+    public static final String DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+
+    @Value("${notification.push.max-per-push:50}")
+    private int maxPerPush;
+
+    private final Map<Long, PendingPush> pending = new ConcurrentHashMap<>();
+
+    // 새 알림 (커밋 후 전송 대기열에 추가, 읽지 않은 알림 수 +1)
+    public void pushAfterCommit(Long recipientId, NotificationDto.Response notification) {
+        afterCommit(() -> pending.compute(recipientId, (id, push) -> {
+            PendingPush target = push != null ? push : new PendingPush();
+            target.notifications.add(notification);
+            target.unreadDelta++;
+            return target;
+        }));
+    }
+
+    // 읽음 처리/삭제 등으로 읽지 않은 알림 수가 바뀐 경우
+    public void pushUnreadDeltaAfterCommit(Long recipientId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        afterCommit(() -> pending.compute(recipientId, (id, push) -> {
+            PendingPush target = push != null ? push : new PendingPush();
+            target.unreadDelta += delta;
+            return target;
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.push.coalesce-ms:200}")
+    public void flush() {
+        for (Long recipientId : pending.keySet()) {
+            PendingPush push = pending.remove(recipientId);
+            if (push == null || simpUserRegistry.getUser(String.valueOf(recipientId)) == null) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSendToUser(String.valueOf(recipientId), DESTINATION, toEvent(push));
+            } catch (Exception e) {
+                log.warn("알림 푸시 전송 실패: user {}, {}", recipientId, e.getMessage());
+            }
+        }
+    }
+
+    private NotificationDto.PushEvent toEvent(PendingPush push) {
+        List<NotificationDto.Response> notifications = push.notifications;
+        boolean hasMore = notifications.size() > maxPerPush;
+        if (hasMore) {
+            // 너무 많으면 오래된 알림부터 보내고 나머지는 클라이언트가 받은 마지막 id 로 resume 해서 조회
+            // (resume 은 id > lastId 만 돌려주므로 최신 알림을 먼저 보내면 그보다 오래된 알림은 다시 받을 수 없음)
+            notifications = notifications.stream()
+                    .sorted(Comparator.comparing(NotificationDto.Response::getId))
+                    .limit(maxPerPush)
+                    .toList();
+        }
+        return NotificationDto.PushEvent.builder()
+                .type(notifications.isEmpty() ? NotificationPushType.UNREAD_DELTA : NotificationPushType.NOTIFICATIONS)
+                .notifications(notifications)
+                .unreadDelta(push.unreadDelta)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class PendingPush {
+        private final List<NotificationDto.Response> notifications = new ArrayList<>();
+        private long unreadDelta;
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.demo.modules.notification.service;
 
+import com.example.demo.common.pagination.Cursor;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.modules.notification.dto.NotificationDto;
 import com.example.demo.modules.notification.entity.Notification;
+import com.example.demo.modules.notification.enums.NotificationPushType;
 import com.example.demo.modules.notification.enums.NotificationType;
 import com.example.demo.modules.notification.repository.NotificationRepository;
 import com.example.demo.modules.user.entity.User;
 import com.example.demo.modules.user.repository.UserRepository;
+import com.example.demo.modules.notification.mapper.NotificationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,8 +32,15 @@ import java.util.stream.Collectors;
 @Transactional
 public class NotificationService {
 
+    private static final int RESUME_LIMIT = 100;
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationPushService notificationPushService;
+    private final NotificationUnreadCounterService unreadCounterService;
+    private final NotificationMapper notificationMapper;
+    private final PlatformTransactionManager transactionManager;
 
     public NotificationDto.Response createNotification(NotificationDto.CreateRequest request) {
         User recipient = userRepository.findById(request.getRecipientId())
@@ -49,7 +65,10 @@ public class NotificationService {
         Notification savedNotification = notificationRepository.save(notification);
         log.info("새 알림 생성됨: {} for {}", savedNotification.getTitle(), recipient.getEmail());
 
-        return convertToResponse(savedNotification);
+        unreadCounterService.add(recipient.getId(), 1);
+        NotificationDto.Response response = notificationMapper.map(savedNotification);
+        notificationPushService.pushAfterCommit(recipient.getId(), response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -57,14 +76,14 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다: " + id));
 
-        return convertToResponse(notification);
+        return notificationMapper.map(notification);
     }
 
     @Transactional(readOnly = true)
     public List<NotificationDto.Response> getNotificationsByRecipient(Long recipientId) {
         return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipientId)
                 .stream()
-                .map(this::convertToResponse)
+                .map(notificationMapper::map)
                 .collect(Collectors.toList());
     }
 
@@ -72,14 +91,30 @@ public class NotificationService {
     public Page<NotificationDto.Response> getNotificationsByRecipient(Long recipientId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipientId, pageable)
-                .map(this::convertToResponse);
+                .map(notificationMapper::map);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationDto.Response> getNotificationsByCursor(Long recipientId, boolean unreadOnly,
+                                                                         String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        List<Notification> notifications = notificationRepository.findRecipientFeed(
+                recipientId,
+                unreadOnly ? Boolean.FALSE : null,
+                Cursor.createdAtOf(position),
+                Cursor.idOf(position),
+                CursorPage.limitFor(size)
+        );
+        return CursorPage.of(notifications, size,
+                notification -> new Cursor(notification.getCreatedAt(), notification.getId()),
+                notificationMapper::map);
     }
 
     @Transactional(readOnly = true)
     public List<NotificationDto.Response> getUnreadNotifications(Long recipientId) {
         return notificationRepository.findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(recipientId)
                 .stream()
-                .map(this::convertToResponse)
+                .map(notificationMapper::map)
                 .collect(Collectors.toList());
     }
 
@@ -87,63 +122,108 @@ public class NotificationService {
     public Page<NotificationDto.Response> getUnreadNotifications(Long recipientId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return notificationRepository.findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(recipientId, pageable)
-                .map(this::convertToResponse);
+                .map(notificationMapper::map);
     }
 
     @Transactional(readOnly = true)
     public List<NotificationDto.Response> getNotificationsByType(Long recipientId, NotificationType type) {
         return notificationRepository.findByRecipientIdAndTypeOrderByCreatedAtDesc(recipientId, type)
                 .stream()
-                .map(this::convertToResponse)
+                .map(notificationMapper::map)
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    // 카운터 캐시에서 조회 (DB 트랜잭션 불필요)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getUnreadCount(Long recipientId) {
-        return notificationRepository.countUnreadByRecipientId(recipientId);
+        return unreadCounterService.getUnreadCount(recipientId);
     }
 
-    public void markAsRead(Long notificationId, Long recipientId) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다: " + notificationId));
+    // 재연결한 클라이언트에게 lastId 이후 놓친 알림과 현재 읽지 않은 알림 수 전달
+    @Transactional(readOnly = true)
+    public NotificationDto.PushEvent getMissedNotifications(Long recipientId, Long lastId) {
+        List<Notification> missed = notificationRepository.findMissedByRecipientId(
+                recipientId, lastId != null ? lastId : 0L, Limit.of(RESUME_LIMIT + 1));
+        boolean hasMore = missed.size() > RESUME_LIMIT;
+
+        return NotificationDto.PushEvent.builder()
+                .type(NotificationPushType.RESUME)
+                .notifications(missed.stream()
+                        .limit(RESUME_LIMIT)
+                        .map(notificationMapper::map)
+                        .collect(Collectors.toList()))
+                .unreadCount(unreadCounterService.getUnreadCount(recipientId))
+                .hasMore(hasMore)
+                .build();
+    }
 
-        // 수신자 권한 확인
-        if (!notification.getRecipient().getId().equals(recipientId)) {
-            throw new RuntimeException("알림에 대한 권한이 없습니다");
+    public void markAsRead(Long notificationId, Long recipientId) {
+        // 읽지 않은 본인 알림일 때만 바뀌므로, 같은 알림을 동시에 읽음 처리해도 카운터는 한 번만 줄어듦
+        int updated = notificationRepository.markAsReadByRecipientIdAndIdIn(recipientId, List.of(notificationId));
+        if (updated == 0 && !notificationRepository.existsByIdAndRecipientId(notificationId, recipientId)) {
+            throw new RuntimeException("알림을 찾을 수 없습니다: " + notificationId);
         }
-
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+        adjustUnreadCount(recipientId, -updated);
         log.info("알림 읽음 처리됨: {}", notificationId);
     }
 
-    public void markAllAsRead(Long recipientId) {
-        List<Notification> unreadNotifications = notificationRepository
-                .findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(recipientId);
+    public int markAllAsRead(Long recipientId) {
+        int updated = notificationRepository.markAllAsReadByRecipientId(recipientId);
+        adjustUnreadCount(recipientId, -updated);
 
-        unreadNotifications.forEach(notification -> notification.setIsRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        log.info("모든 알림 읽음 처리됨 for user: {} ({}건)", recipientId, updated);
+        return updated;
+    }
 
-        log.info("모든 알림 읽음 처리됨 for user: {}", recipientId);
+    // 지정한 알림들을 한 번에 읽음 처리 (본인 알림만, 이미 읽은 알림은 제외)
+    public int markAsRead(List<Long> notificationIds, Long recipientId) {
+        int updated = notificationRepository.markAsReadByRecipientIdAndIdIn(recipientId, notificationIds);
+        adjustUnreadCount(recipientId, -updated);
+
+        log.info("알림 일괄 읽음 처리됨 for user: {} ({}건)", recipientId, updated);
+        return updated;
     }
 
     public void deleteNotification(Long notificationId, Long recipientId) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다: " + notificationId));
-
-        // 수신자 권한 확인
-        if (!notification.getRecipient().getId().equals(recipientId)) {
-            throw new RuntimeException("알림에 대한 권한이 없습니다");
+        // 일괄 삭제와 같이 읽지 않은 알림이었을 때만 카운터를 줄임 (해당 행 잠금)
+        List<Long> ids = List.of(notificationId);
+        int unread = notificationRepository.markAsReadByRecipientIdAndIdIn(recipientId, ids);
+        int deleted = notificationRepository.deleteByRecipientIdAndIdIn(recipientId, ids);
+        if (deleted == 0) {
+            throw new RuntimeException("알림을 찾을 수 없습니다: " + notificationId);
         }
-
-        notificationRepository.delete(notification);
+        adjustUnreadCount(recipientId, -unread);
         log.info("알림 삭제됨: {}", notificationId);
     }
 
-    @Transactional
-    public void deleteReadNotifications(Long recipientId) {
-        notificationRepository.deleteByRecipientIdAndIsReadTrue(recipientId);
-        log.info("읽은 알림 모두 삭제됨 for user: {}", recipientId);
+    // 지정한 알림들을 한 번에 삭제 (본인 알림만)
+    public int deleteNotifications(List<Long> notificationIds, Long recipientId) {
+        // 읽지 않은 알림을 먼저 읽음 처리해 변경된 건수만큼 카운터를 줄임 (해당 행 잠금)
+        int unread = notificationRepository.markAsReadByRecipientIdAndIdIn(recipientId, notificationIds);
+        int deleted = notificationRepository.deleteByRecipientIdAndIdIn(recipientId, notificationIds);
+        adjustUnreadCount(recipientId, -unread);
+
+        log.info("알림 일괄 삭제됨 for user: {} ({}건)", recipientId, deleted);
+        return deleted;
+    }
+
+    // 읽은 알림을 DELETE_CHUNK_SIZE 건씩 나누어 각각 별도 트랜잭션으로 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteReadNotifications(Long recipientId) {
+        // 읽은 알림만 삭제하므로 읽지 않은 알림 수는 변하지 않음
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = chunkTransaction.execute(status ->
+                    notificationRepository.deleteReadByRecipientIdLimit(recipientId, DELETE_CHUNK_SIZE));
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+
+        log.info("읽은 알림 모두 삭제됨 for user: {} ({}건)", recipientId, total);
+        return total;
     }
 
     // 편의 메소드들
@@ -185,33 +265,9 @@ public class NotificationService {
         createNotification(request);
     }
 
-    private NotificationDto.Response convertToResponse(Notification notification) {
-        NotificationDto.RecipientInfo recipientInfo = NotificationDto.RecipientInfo.builder()
-                .id(notification.getRecipient().getId())
-                .name(notification.getRecipient().getName())
-                .email(notification.getRecipient().getEmail())
-                .build();
-
-        NotificationDto.SenderInfo senderInfo = null;
-        if (notification.getSender() != null) {
-            senderInfo = NotificationDto.SenderInfo.builder()
-                    .id(notification.getSender().getId())
-                    .name(notification.getSender().getName())
-                    .email(notification.getSender().getEmail())
-                    .build();
-        }
-
-        return NotificationDto.Response.builder()
-                .id(notification.getId())
-                .title(notification.getTitle())
-                .message(notification.getMessage())
-                .type(notification.getType())
-                .recipient(recipientInfo)
-                .sender(senderInfo)
-                .relatedEntityId(notification.getRelatedEntityId())
-                .relatedEntityType(notification.getRelatedEntityType())
-                .isRead(notification.getIsRead())
-                .createdAt(notification.getCreatedAt())
-                .build();
+    // 읽지 않은 알림 수 카운터 증감 및 접속 중인 사용자에게 변화량 전송
+    private void adjustUnreadCount(Long recipientId, long delta) {
+        unreadCounterService.add(recipientId, delta);
+        notificationPushService.pushUnreadDeltaAfterCommit(recipientId, delta);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.example.demo.modules.notification.service;
+
+import com.example.demo.modules.notification.entity.NotificationUnreadCounter;
+import com.example.demo.modules.notification.repository.NotificationRepository;
+import com.example.demo.modules.notification.repository.NotificationUnreadCounterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터.
+ * 알림 생성/읽음/삭제와 같은 트랜잭션에서 notification_unread_counters 를 증감하고,
+ * 조회는 메모리 캐시 → 카운터 행(PK 조회) 순으로 처리해 알림 개수와 무관하게 O(1) 로 응답한다.
+ * 카운터와 실제 알림 수가 어긋나면 주기적인 보정 작업이 바로잡는다.
+ */
+@Service
+@Slf4j
+public class NotificationUnreadCounterService {
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Long> cache;
+
+    public NotificationUnreadCounterService(NotificationUnreadCounterRepository counterRepository,
+                                            NotificationRepository notificationRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${notification.unread-counter.cache-max-size:100000}") long maxSize,
+                                            @Value("${notification.unread-counter.cache-ttl-seconds:600}") long ttlSeconds) {
+        this.counterRepository = counterRepository;
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 호출한 트랜잭션 안에서 카운터를 증감하고, 커밋 후 캐시를 무효화
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        counterRepository.addDelta(userId, delta);
+        evictAfterCommit(userId);
+    }
+
+    public long getUnreadCount(Long userId) {
+        // 카운터 행이 없으면 읽지 않은 알림이 없는 사용자
+        return cache.get(userId, id -> counterRepository.findUnreadCountByUserId(id).orElse(0L));
+    }
+
+    // 최초 기동 시 (카운터 테이블이 비어 있는데 알림이 있으면) 전체 카운터 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfEmpty() {
+        if (counterRepository.count() == 0 && notificationRepository.count() > 0) {
+            log.info("읽지 않은 알림 카운터 초기화");
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${notification.unread-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadGroupByRecipientId()) {
+            actual.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, Long> stored = new HashMap<>();
+        for (NotificationUnreadCounter counter : counterRepository.findAll()) {
+            stored.put(counter.getUserId(), counter.getUnreadCount());
+        }
+
+        Set<Long> userIds = new HashSet<>(actual.keySet());
+        userIds.addAll(stored.keySet());
+        int repaired = 0;
+        for (Long userId : userIds) {
+            if (actual.getOrDefault(userId, 0L).equals(stored.getOrDefault(userId, 0L))) {
+                continue;
+            }
+            // 집계 이후 변경된 알림이 있을 수 있으므로 사용자 단위로 다시 계산해 반영
+            transactionTemplate.executeWithoutResult(status -> {
+                counterRepository.insertIfAbsent(userId);
+                counterRepository.recount(userId);
+            });
+            cache.invalidate(userId);
+            repaired++;
+        }
+        log.info("읽지 않은 알림 카운터 보정 완료: 사용자 {}명 중 {}명 보정", userIds.size(), repaired);
+    }
+
+    private void evictAfterCommit(Long userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.demo.modules.post.controller;
 
+import com.example.demo.common.metrics.QueryBudget;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.modules.post.dto.PostDto;
 import com.example.demo.modules.post.service.PostService;
 import com.example.demo.security.UserPrincipal;
@@ -59,14 +61,14 @@ public class PostController {
         }
     }
 
-    @Operation(summary = "게시글 검색", description = "조건에 따라 게시글을 검색합니다.")
+    @Operation(summary = "게시글 검색", description = "조건에 따라 게시글을 검색합니다. 검색어가 있으면 관련도(relevance) 순으로 정렬하고 하이라이트를 제공합니다.")
     @GetMapping("/search")
-    public ResponseEntity<Page<PostDto.Response>> searchPosts(
+    public ResponseEntity<Page<PostDto.Summary>> searchPosts(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Long authorId,
             @RequestParam(required = false) Boolean isPublished,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "relevance") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDirection,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -82,43 +84,135 @@ public class PostController {
                 .size(size)
                 .build();
 
-        Page<PostDto.Response> posts = postService.getAllPosts(searchRequest);
+        Page<PostDto.Summary> posts = postService.getAllPosts(searchRequest);
         return ResponseEntity.ok(posts);
     }
 
+    @Operation(summary = "검색 인덱스 재생성", description = "게시글 전문 검색 인덱스를 전체 재생성합니다. 관리자만 사용할 수 있습니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/search/reindex")
+    public ResponseEntity<PostDto.ReindexResponse> rebuildSearchIndex(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        boolean isAdmin = userPrincipal.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            long indexedCount = postService.rebuildSearchIndex();
+            return ResponseEntity.ok(PostDto.ReindexResponse.builder().indexedCount(indexedCount).build());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @Operation(summary = "게시글 검색 (커서)", description = "조건에 따라 게시글을 최신순 커서 페이지네이션으로 검색합니다.")
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPage<PostDto.Summary>> searchPostsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Boolean isPublished,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        PostDto.SearchRequest searchRequest = PostDto.SearchRequest.builder()
+                .keyword(keyword)
+                .categoryId(categoryId)
+                .authorId(authorId)
+                .isPublished(isPublished)
+                .size(size)
+                .build();
+
+        try {
+            CursorPage<PostDto.Summary> posts = postService.getPostsByCursor(searchRequest, cursor);
+            return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "공개 게시글 목록", description = "공개된 게시글 목록을 조회합니다.")
     @GetMapping("/public")
-    public ResponseEntity<Page<PostDto.Response>> getPublicPosts(
+    @QueryBudget(3)
+    public ResponseEntity<Page<PostDto.Summary>> getPublicPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<PostDto.Response> posts = postService.getPublishedPosts(page, size);
+        Page<PostDto.Summary> posts = postService.getPublishedPosts(page, size);
         return ResponseEntity.ok(posts);
     }
 
+    @Operation(summary = "공개 게시글 목록 (커서)", description = "공개된 게시글 목록을 커서 기반으로 조회합니다. 응답의 nextCursor 로 다음 페이지를 요청합니다.")
+    @GetMapping("/public/cursor")
+    @QueryBudget(2)
+    public ResponseEntity<CursorPage<PostDto.Summary>> getPublicPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPage<PostDto.Summary> posts = postService.getPublishedPostsByCursor(cursor, size);
+            return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "카테고리별 게시글", description = "특정 카테고리의 게시글을 조회합니다.")
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<Page<PostDto.Response>> getPostsByCategory(
+    @QueryBudget(3)
+    public ResponseEntity<Page<PostDto.Summary>> getPostsByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<PostDto.Response> posts = postService.getPostsByCategory(categoryId, page, size);
+        Page<PostDto.Summary> posts = postService.getPostsByCategory(categoryId, page, size);
         return ResponseEntity.ok(posts);
     }
 
+    @Operation(summary = "카테고리별 게시글 (커서)", description = "특정 카테고리의 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/category/{categoryId}/cursor")
+    @QueryBudget(2)
+    public ResponseEntity<CursorPage<PostDto.Summary>> getPostsByCategoryCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPage<PostDto.Summary> posts = postService.getPostsByCategoryCursor(categoryId, cursor, size);
+            return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "작성자별 게시글", description = "특정 사용자의 게시글을 조회합니다.")
     @GetMapping("/author/{authorId}")
-    public ResponseEntity<Page<PostDto.Response>> getPostsByAuthor(
+    @QueryBudget(3)
+    public ResponseEntity<Page<PostDto.Summary>> getPostsByAuthor(
             @PathVariable Long authorId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<PostDto.Response> posts = postService.getPostsByAuthor(authorId, page, size);
+        Page<PostDto.Summary> posts = postService.getPostsByAuthor(authorId, page, size);
         return ResponseEntity.ok(posts);
     }
 
+    @Operation(summary = "작성자별 게시글 (커서)", description = "특정 사용자의 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/author/{authorId}/cursor")
+    @QueryBudget(2)
+    public ResponseEntity<CursorPage<PostDto.Summary>> getPostsByAuthorCursor(
+            @PathVariable Long authorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPage<PostDto.Summary> posts = postService.getPostsByAuthorCursor(authorId, cursor, size);
+            return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "인기 게시글", description = "조회수가 높은 게시글 상위 10개를 조회합니다.")
     @GetMapping("/popular")
-    public ResponseEntity<List<PostDto.Response>> getPopularPosts() {
-        List<PostDto.Response> posts = postService.getPopularPosts();
+    @QueryBudget(2)
+    public ResponseEntity<List<PostDto.Summary>> getPopularPosts() {
+        List<PostDto.Summary> posts = postService.getPopularPosts();
         return ResponseEntity.ok(posts);
     }
 
@@ -151,13 +245,29 @@ public class PostController {
         }
     }
 
-    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 추가합니다.")
+    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 추가합니다. 이미 좋아요한 경우 변화가 없습니다.")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/{id}/like")
-    public ResponseEntity<Void> likePost(@PathVariable Long id) {
+    public ResponseEntity<PostDto.LikeResponse> likePost(
+            @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
         try {
-            postService.likePost(id);
-            return ResponseEntity.ok().build();
+            PostDto.LikeResponse response = postService.likePost(id, userPrincipal.getId());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "게시글 좋아요 취소", description = "게시글 좋아요를 취소합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<PostDto.LikeResponse> unlikePost(
+            @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        try {
+            PostDto.LikeResponse response = postService.unlikePost(id, userPrincipal.getId());
+            return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
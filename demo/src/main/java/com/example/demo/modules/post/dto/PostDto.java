@@ -58,6 +58,33 @@ public class PostDto {
         private Boolean isPublished;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+
+        @Schema(description = "검색어 하이라이트 (검색 결과에서만 제공, HTML 이스케이프된 본문에 일치 구간만 <b> 태그)")
+        private String highlight;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PostSummary", description = "게시글 목록 항목 DTO (본문은 앞부분만 제공)")
+    public static class Summary {
+        private Long id;
+        private String title;
+
+        @Schema(description = "본문 앞부분 (최대 200자)")
+        private String excerpt;
+
+        private AuthorInfo author;
+        private CategoryInfo category;
+        private Integer viewCount;
+        private Integer likeCount;
+        private Boolean isPublished;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        @Schema(description = "검색어 하이라이트 (검색 결과에서만 제공, HTML 이스케이프된 본문에 일치 구간만 <b> 태그)")
+        private String highlight;
     }
 
     @Data
@@ -116,4 +143,24 @@ public class PostDto {
         @NotNull(message = "게시글 ID는 필수입니다")
         private Long postId;
     }
-} 
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PostLikeResponse", description = "게시글 좋아요 응답 DTO")
+    public static class LikeResponse {
+        private Long postId;
+        private Boolean liked;
+        private Integer likeCount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PostReindexResponse", description = "게시글 검색 인덱스 재생성 응답 DTO")
+    public static class ReindexResponse {
+        private Long indexedCount;
+    }
+}
@@ -13,7 +13,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_published_created", columnList = "is_published, created_at, id"),
+        @Index(name = "idx_posts_category_created", columnList = "category_id, created_at, id"),
+        @Index(name = "idx_posts_author_created", columnList = "author_id, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,50 @@
+package com.example.demo.modules.post.event;
+
+import com.example.demo.modules.post.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 생성/수정/삭제 시 발행되는 이벤트.
+ * 리스너가 트랜잭션 커밋 이후 엔티티를 다시 읽지 않아도 되도록 필요한 값을 스냅샷으로 담는다.
+ */
+public record PostChangedEvent(
+        ChangeType type,
+        Long postId,
+        String title,
+        String content,
+        Long categoryId,
+        Long authorId,
+        Boolean isPublished,
+        LocalDateTime createdAt
+) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static PostChangedEvent created(Post post) {
+        return of(ChangeType.CREATED, post);
+    }
+
+    public static PostChangedEvent updated(Post post) {
+        return of(ChangeType.UPDATED, post);
+    }
+
+    public static PostChangedEvent deleted(Post post) {
+        return of(ChangeType.DELETED, post);
+    }
+
+    private static PostChangedEvent of(ChangeType type, Post post) {
+        return new PostChangedEvent(
+                type,
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCategory() != null ? post.getCategory().getId() : null,
+                post.getAuthor().getId(),
+                post.getIsPublished(),
+                post.getCreatedAt()
+        );
+    }
+}
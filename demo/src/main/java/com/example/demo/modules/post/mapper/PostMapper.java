@@ -0,0 +1,53 @@
+package com.example.demo.modules.post.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.service.PostLikeCountBuffer;
+import com.example.demo.modules.post.service.PostViewCountBuffer;
+import com.example.demo.modules.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 게시글 상세 응답 변환 - 조회수/좋아요 수는 아직 DB 에 반영되지 않은 버퍼 값을 더해서 제공
+@Component
+@RequiredArgsConstructor
+public class PostMapper implements Mapper<Post, PostDto.Response> {
+
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostLikeCountBuffer likeCountBuffer;
+
+    @Override
+    public PostDto.Response map(Post post) {
+        User author = post.getAuthor();
+        PostDto.AuthorInfo authorInfo = PostDto.AuthorInfo.builder()
+                .id(author.getId())
+                .name(author.getName())
+                .nickname(author.getNickname())
+                .profileImageUrl(author.getProfileThumbnailUrl() != null
+                        ? author.getProfileThumbnailUrl() : author.getProfileImageUrl())
+                .build();
+
+        PostDto.CategoryInfo categoryInfo = null;
+        if (post.getCategory() != null) {
+            categoryInfo = PostDto.CategoryInfo.builder()
+                    .id(post.getCategory().getId())
+                    .name(post.getCategory().getName())
+                    .color(post.getCategory().getColor())
+                    .build();
+        }
+
+        return PostDto.Response.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .author(authorInfo)
+                .category(categoryInfo)
+                .viewCount(post.getViewCount() + (int) viewCountBuffer.getPending(post.getId()))
+                .likeCount(post.getLikeCount() + (int) likeCountBuffer.getPending(post.getId()))
+                .isPublished(post.getIsPublished())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.modules.post.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.repository.PostSummaryRow;
+import com.example.demo.modules.post.service.PostLikeCountBuffer;
+import com.example.demo.modules.post.service.PostViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 목록 조회 결과(프로젝션)를 응답으로 변환 - 추가 쿼리 없이 조회된 컬럼만 사용
+@Component
+@RequiredArgsConstructor
+public class PostSummaryMapper implements Mapper<PostSummaryRow, PostDto.Summary> {
+
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostLikeCountBuffer likeCountBuffer;
+
+    @Override
+    public PostDto.Summary map(PostSummaryRow row) {
+        PostDto.AuthorInfo authorInfo = PostDto.AuthorInfo.builder()
+                .id(row.authorId())
+                .name(row.authorName())
+                .nickname(row.authorNickname())
+                .profileImageUrl(row.authorProfileThumbnailUrl() != null
+                        ? row.authorProfileThumbnailUrl() : row.authorProfileImageUrl())
+                .build();
+
+        PostDto.CategoryInfo categoryInfo = null;
+        if (row.categoryId() != null) {
+            categoryInfo = PostDto.CategoryInfo.builder()
+                    .id(row.categoryId())
+                    .name(row.categoryName())
+                    .color(row.categoryColor())
+                    .build();
+        }
+
+        return PostDto.Summary.builder()
+                .id(row.id())
+                .title(row.title())
+                .excerpt(row.excerpt())
+                .author(authorInfo)
+                .category(categoryInfo)
+                .viewCount(row.viewCount() + (int) viewCountBuffer.getPending(row.id()))
+                .likeCount(row.likeCount() + (int) likeCountBuffer.getPending(row.id()))
+                .isPublished(row.isPublished())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.modules.post.repository;
 
 import com.example.demo.modules.post.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,25 +16,47 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    Optional<Post> findByIdAndIsPublishedTrue(Long id);
+    // 목록 조회용 SELECT 절 - 작성자/카테고리를 조인해 목록에 필요한 컬럼과 본문 앞부분만 조회
+    String SUMMARY_SELECT = "SELECT new com.example.demo.modules.post.repository.PostSummaryRow(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryRow.EXCERPT_LENGTH + "), " +
+            "a.id, a.name, a.nickname, a.profileImageUrl, a.profileThumbnailUrl, " +
+            "c.id, c.name, c.color, " +
+            "p.viewCount, p.likeCount, p.isPublished, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.author a LEFT JOIN p.category c ";
 
-    Page<Post> findByIsPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
+    // 상세 조회는 본문 전체가 필요하므로 엔티티로 조회하되 작성자/카테고리를 함께 가져옴
+    @Query("SELECT p FROM Post p JOIN FETCH p.author LEFT JOIN FETCH p.category " +
+           "WHERE p.id = :id AND p.isPublished = true")
+    Optional<Post> findByIdAndIsPublishedTrue(@Param("id") Long id);
 
-    Page<Post> findByAuthorIdAndIsPublishedTrueOrderByCreatedAtDesc(Long authorId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isPublished = true ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isPublished = true")
+    Page<PostSummaryRow> findPublishedSummaries(Pageable pageable);
 
-    Page<Post> findByCategoryIdAndIsPublishedTrueOrderByCreatedAtDesc(Long categoryId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.id = :authorId AND p.isPublished = true ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author.id = :authorId AND p.isPublished = true")
+    Page<PostSummaryRow> findSummariesByAuthor(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.isPublished = true ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId AND p.isPublished = true")
+    Page<PostSummaryRow> findSummariesByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
 
     @Query("SELECT p FROM Post p WHERE p.isPublished = true AND " +
            "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
            "ORDER BY p.createdAt DESC")
     Page<Post> findByKeywordAndIsPublishedTrue(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE " +
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+           "(:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND " +
+           "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+           "(:authorId IS NULL OR p.author.id = :authorId) AND " +
+           "(:isPublished IS NULL OR p.isPublished = :isPublished)",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE " +
            "(:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND " +
            "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
            "(:authorId IS NULL OR p.author.id = :authorId) AND " +
            "(:isPublished IS NULL OR p.isPublished = :isPublished)")
-    Page<Post> findPostsWithFilters(
+    Page<PostSummaryRow> findPostsWithFilters(
             @Param("keyword") String keyword,
             @Param("categoryId") Long categoryId,
             @Param("authorId") Long authorId,
@@ -41,7 +64,71 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             Pageable pageable
     );
 
-    List<Post> findTop10ByIsPublishedTrueOrderByViewCountDesc();
+    // 커서(keyset) 페이지네이션 - COUNT 쿼리 없이 (createdAt, id) 기준으로 다음 페이지를 조회
+    @Query(SUMMARY_SELECT + "WHERE p.isPublished = true AND " +
+           "(:cursorCreatedAt IS NULL OR (p.createdAt <= :cursorCreatedAt AND " +
+           "(p.createdAt < :cursorCreatedAt OR p.id < :cursorId))) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryRow> findPublishedFeed(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE p.category.id = :categoryId AND p.isPublished = true AND " +
+           "(:cursorCreatedAt IS NULL OR (p.createdAt <= :cursorCreatedAt AND " +
+           "(p.createdAt < :cursorCreatedAt OR p.id < :cursorId))) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryRow> findCategoryFeed(
+            @Param("categoryId") Long categoryId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE p.author.id = :authorId AND p.isPublished = true AND " +
+           "(:cursorCreatedAt IS NULL OR (p.createdAt <= :cursorCreatedAt AND " +
+           "(p.createdAt < :cursorCreatedAt OR p.id < :cursorId))) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryRow> findAuthorFeed(
+            @Param("authorId") Long authorId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "(:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND " +
+           "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+           "(:authorId IS NULL OR p.author.id = :authorId) AND " +
+           "(:isPublished IS NULL OR p.isPublished = :isPublished) AND " +
+           "(:cursorCreatedAt IS NULL OR (p.createdAt <= :cursorCreatedAt AND " +
+           "(p.createdAt < :cursorCreatedAt OR p.id < :cursorId))) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryRow> findFeedWithFilters(
+            @Param("keyword") String keyword,
+            @Param("categoryId") Long categoryId,
+            @Param("authorId") Long authorId,
+            @Param("isPublished") Boolean isPublished,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE p.isPublished = true ORDER BY p.viewCount DESC")
+    List<PostSummaryRow> findPopularSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryRow> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    // 검색 인덱스 재생성용 배치 조회
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    Optional<Integer> findLikeCountById(@Param("id") Long id);
+
+    @Query("SELECT p.title FROM Post p WHERE p.id = :id")
+    Optional<String> findTitleById(@Param("id") Long id);
 
     @Query("SELECT COUNT(p) FROM Post p WHERE p.isPublished = true")
     long countPublishedPosts();
@@ -0,0 +1,29 @@
+package com.example.demo.modules.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 화면용 프로젝션 (JPQL 생성자 표현식으로 한 번의 조인 쿼리에서 채움).
+ * 엔티티를 만들지 않으므로 작성자/카테고리 지연 로딩이 없고, 본문은 앞부분(excerpt)만 가져온다.
+ */
+public record PostSummaryRow(
+        Long id,
+        String title,
+        String excerpt,
+        Long authorId,
+        String authorName,
+        String authorNickname,
+        String authorProfileImageUrl,
+        String authorProfileThumbnailUrl,
+        Long categoryId,
+        String categoryName,
+        String categoryColor,
+        Integer viewCount,
+        Integer likeCount,
+        Boolean isPublished,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    // 목록에 내려주는 본문 앞부분 길이 (문자 수)
+    public static final int EXCERPT_LENGTH = 200;
+}
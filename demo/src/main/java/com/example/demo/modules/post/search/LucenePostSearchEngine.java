@@ -0,0 +1,329 @@
+package com.example.demo.modules.post.search;
+
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.event.PostChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lucene 기반 게시글 검색 엔진.
+ * 한국어 형태소 분석기(Nori)로 제목/본문을 색인하고, 관련도 순위와 하이라이트를 제공한다.
+ * 색인 변경은 refresh-interval 마다 검색에 반영(NRT)되고 commit-interval 마다 디스크에 커밋된다.
+ * 재생성(rebuild) 중에는 refresh/commit 을 멈춰 검색은 재생성 전 인덱스를 계속 보고, 디스크에는 마지막 완전한 커밋이 남는다.
+ * 재생성 중 들어온 색인/삭제는 모아 두었다가 재생성 문서 위에 다시 적용해, 먼저 읽힌 배치가 최신 변경을 덮어쓰지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "lucene", matchIfMissing = true)
+@Slf4j
+public class LucenePostSearchEngine implements PostSearchEngine {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CATEGORY_ID = "categoryId";
+    private static final String FIELD_AUTHOR_ID = "authorId";
+    private static final String FIELD_PUBLISHED = "published";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    private static final String SORT_RELEVANCE = "relevance";
+    private static final String SORT_CREATED_AT = "createdAt";
+
+    @Value("${post.search.index-dir:./search-index}")
+    private String indexDir;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+
+    private Directory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+
+    // 재생성 상태와 재생성 중 들어온 색인 변경 (rebuildLock 으로 보호)
+    private final Object rebuildLock = new Object();
+    private boolean rebuilding;
+    private final List<IndexOperation> pendingDuringRebuild = new ArrayList<>();
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(Paths.get(indexDir));
+        openWriter();
+        log.info("게시글 검색 인덱스 열림: {} (문서 {}건)", indexDir, writer.getDocStats().numDocs);
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (rebuildLock) {
+            searcherManager.close();
+            if (rebuilding) {
+                // 재생성 중인 미완성 인덱스가 커밋되지 않도록 마지막 커밋으로 되돌림
+                writer.rollback();
+            } else {
+                writer.close();
+            }
+            directory.close();
+        }
+    }
+
+    @Override
+    public boolean supportsSort(String sortBy) {
+        return SORT_RELEVANCE.equals(sortBy) || SORT_CREATED_AT.equals(sortBy);
+    }
+
+    @Override
+    public PostSearchHits search(PostDto.SearchRequest request) throws IOException {
+        Query query = buildQuery(request);
+        if (query == null) {
+            return new PostSearchHits(List.of(), 0);
+        }
+
+        int page = request.getPage();
+        int size = request.getSize();
+        int needed = (page + 1) * size;
+
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = manager.acquire();
+        try {
+            TopDocs topDocs = SORT_CREATED_AT.equals(request.getSortBy())
+                    ? searcher.search(query, needed, new Sort(new SortField(FIELD_CREATED_AT, SortField.Type.LONG,
+                            !"ASC".equalsIgnoreCase(request.getSortDirection()))))
+                    : searcher.search(query, needed);
+            long totalHits = searcher.count(query);
+
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            int from = Math.min(page * size, scoreDocs.length);
+            ScoreDoc[] pageDocs = Arrays.copyOfRange(scoreDocs, from, scoreDocs.length);
+            if (pageDocs.length == 0) {
+                return new PostSearchHits(List.of(), totalHits);
+            }
+
+            TopDocs pageTopDocs = new TopDocs(new TotalHits(pageDocs.length, TotalHits.Relation.EQUAL_TO), pageDocs);
+            // 본문에 일치 구간이 없으면 null 을 받아 제목 하이라이트로 대체
+            // 게시글 내용은 HTML 이스케이프하고 <b> 태그만 마크업으로 남김
+            UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                    .withMaxNoHighlightPassages(0)
+                    .withFormatter(new DefaultPassageFormatter("<b>", "</b>", "... ", true))
+                    .build();
+            Map<String, String[]> highlights = highlighter.highlightFields(
+                    new String[]{FIELD_CONTENT, FIELD_TITLE}, query, pageTopDocs, new int[]{1, 1});
+
+            StoredFields storedFields = searcher.storedFields();
+            List<PostSearchHits.Hit> hits = new ArrayList<>(pageDocs.length);
+            for (int i = 0; i < pageDocs.length; i++) {
+                Document document = storedFields.document(pageDocs[i].doc, Set.of(FIELD_ID));
+                String highlight = highlights.get(FIELD_CONTENT)[i];
+                if (highlight == null) {
+                    highlight = highlights.get(FIELD_TITLE)[i];
+                }
+                hits.add(new PostSearchHits.Hit(Long.parseLong(document.get(FIELD_ID)), pageDocs[i].score, highlight));
+            }
+            return new PostSearchHits(hits, totalHits);
+        } finally {
+            manager.release(searcher);
+        }
+    }
+
+    @Override
+    public void index(PostChangedEvent post) throws IOException {
+        apply(w -> w.updateDocument(new Term(FIELD_ID, String.valueOf(post.postId())), toDocument(post)));
+    }
+
+    @Override
+    public void delete(Long postId) throws IOException {
+        apply(w -> w.deleteDocuments(new Term(FIELD_ID, String.valueOf(postId))));
+    }
+
+    private void apply(IndexOperation operation) throws IOException {
+        synchronized (rebuildLock) {
+            if (rebuilding) {
+                pendingDuringRebuild.add(operation);
+                return;
+            }
+        }
+        operation.apply(writer);
+    }
+
+    /**
+     * 전체 재생성. 검색은 재생성 전 시점의 searcher 를 계속 사용하고, 새 인덱스는 커밋한 뒤에 한 번에 공개한다.
+     * 실패하면 마지막 커밋으로 되돌리고(rollback) writer 를 다시 연 뒤, 그 사이 들어온 변경을 적용한다.
+     */
+    @Override
+    public void rebuild(Iterable<List<PostChangedEvent>> batches) throws IOException {
+        synchronized (rebuildLock) {
+            if (rebuilding) {
+                throw new IllegalStateException("검색 인덱스를 이미 재생성하고 있습니다");
+            }
+            rebuilding = true;
+        }
+        long count = 0;
+        try {
+            writer.deleteAll();
+            for (List<PostChangedEvent> batch : batches) {
+                for (PostChangedEvent post : batch) {
+                    writer.addDocument(toDocument(post));
+                }
+                count += batch.size();
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (rebuildLock) {
+                try {
+                    rollbackRebuild();
+                } finally {
+                    finishRebuild();
+                }
+            }
+            throw e;
+        }
+        synchronized (rebuildLock) {
+            finishRebuild();
+        }
+        log.info("게시글 검색 인덱스 재생성 완료: {}건", count);
+    }
+
+    // 재생성 중 들어온 변경을 적용하고 커밋한 뒤 검색에 공개 (rebuildLock 을 잡은 상태에서 호출)
+    private void finishRebuild() throws IOException {
+        try {
+            for (IndexOperation operation : pendingDuringRebuild) {
+                operation.apply(writer);
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } finally {
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+        }
+    }
+
+    private void rollbackRebuild() throws IOException {
+        SearcherManager previous = searcherManager;
+        writer.rollback();
+        openWriter();
+        previous.close();
+        log.warn("게시글 검색 인덱스 재생성 실패, 마지막 커밋으로 되돌렸습니다");
+    }
+
+    @Override
+    public long documentCount() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @Scheduled(fixedDelayString = "${post.search.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        synchronized (rebuildLock) {
+            if (!rebuilding) {
+                searcherManager.maybeRefresh();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.search.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        synchronized (rebuildLock) {
+            if (!rebuilding && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        }
+    }
+
+    private Query buildQuery(PostDto.SearchRequest request) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{FIELD_TITLE, FIELD_CONTENT}, analyzer, Map.of(FIELD_TITLE, 2.0f, FIELD_CONTENT, 1.0f));
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            Query keywordQuery = parser.parse(QueryParser.escape(request.getKeyword()));
+            if (keywordQuery instanceof BooleanQuery booleanQuery && booleanQuery.clauses().isEmpty()) {
+                // 불용어만으로 이루어진 검색어
+                return null;
+            }
+            builder.add(keywordQuery, BooleanClause.Occur.MUST);
+        } catch (ParseException e) {
+            log.debug("검색어 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+
+        if (request.getCategoryId() != null) {
+            builder.add(LongPoint.newExactQuery(FIELD_CATEGORY_ID, request.getCategoryId()), BooleanClause.Occur.FILTER);
+        }
+        if (request.getAuthorId() != null) {
+            builder.add(LongPoint.newExactQuery(FIELD_AUTHOR_ID, request.getAuthorId()), BooleanClause.Occur.FILTER);
+        }
+        if (request.getIsPublished() != null) {
+            builder.add(new TermQuery(new Term(FIELD_PUBLISHED, request.getIsPublished().toString())),
+                    BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Document toDocument(PostChangedEvent post) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(post.postId()), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, post.title(), Field.Store.YES));
+        document.add(new TextField(FIELD_CONTENT, post.content(), Field.Store.YES));
+        if (post.categoryId() != null) {
+            document.add(new LongPoint(FIELD_CATEGORY_ID, post.categoryId()));
+        }
+        document.add(new LongPoint(FIELD_AUTHOR_ID, post.authorId()));
+        document.add(new StringField(FIELD_PUBLISHED, String.valueOf(Boolean.TRUE.equals(post.isPublished())), Field.Store.NO));
+        long createdAt = post.createdAt() != null
+                ? post.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, createdAt));
+        return document;
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void apply(IndexWriter writer) throws IOException;
+    }
+}
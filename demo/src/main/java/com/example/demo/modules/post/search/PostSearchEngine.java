@@ -0,0 +1,28 @@
+package com.example.demo.modules.post.search;
+
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.event.PostChangedEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 게시글 전문 검색 엔진 SPI.
+ * post.search.engine 설정으로 구현체를 선택하며, 구현체가 없거나 실패하면 JPA 검색으로 대체된다.
+ */
+public interface PostSearchEngine {
+
+    PostSearchHits search(PostDto.SearchRequest request) throws IOException;
+
+    void index(PostChangedEvent post) throws IOException;
+
+    void delete(Long postId) throws IOException;
+
+    // 기존 인덱스를 비우고 전달받은 게시글로 다시 만든다
+    void rebuild(Iterable<List<PostChangedEvent>> batches) throws IOException;
+
+    long documentCount() throws IOException;
+
+    // 엔진이 처리할 수 있는 정렬 기준인지 (불가능하면 JPA 검색으로 대체)
+    boolean supportsSort(String sortBy);
+}
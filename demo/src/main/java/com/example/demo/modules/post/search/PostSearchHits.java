@@ -0,0 +1,9 @@
+package com.example.demo.modules.post.search;
+
+import java.util.List;
+
+public record PostSearchHits(List<Hit> hits, long totalHits) {
+
+    public record Hit(Long postId, float score, String highlight) {
+    }
+}
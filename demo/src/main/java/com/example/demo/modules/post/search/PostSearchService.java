@@ -0,0 +1,134 @@
+package com.example.demo.modules.post.search;
+
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.event.PostChangedEvent;
+import com.example.demo.modules.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 라우팅 및 인덱스 동기화.
+ * 검색어가 있는 요청은 검색 엔진으로 보내고, 엔진이 없거나 실패하면 빈 결과를 돌려 JPA 검색으로 대체되게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ObjectProvider<PostSearchEngine> searchEngineProvider;
+    private final PostRepository postRepository;
+
+    public boolean canHandle(PostDto.SearchRequest request) {
+        PostSearchEngine engine = searchEngineProvider.getIfAvailable();
+        return engine != null
+                && StringUtils.hasText(request.getKeyword())
+                && engine.supportsSort(request.getSortBy());
+    }
+
+    public Optional<PostSearchHits> search(PostDto.SearchRequest request) {
+        PostSearchEngine engine = searchEngineProvider.getIfAvailable();
+        if (engine == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(engine.search(request));
+        } catch (Exception e) {
+            log.warn("검색 엔진 조회 실패, JPA 검색으로 대체합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 트랜잭션 커밋 후에만 인덱스에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        PostSearchEngine engine = searchEngineProvider.getIfAvailable();
+        if (engine == null) {
+            return;
+        }
+        try {
+            if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+                engine.delete(event.postId());
+            } else {
+                engine.index(event);
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 인덱스 반영 실패: postId={}, {}", event.postId(), e.getMessage());
+        }
+    }
+
+    public long rebuildIndex() {
+        PostSearchEngine engine = searchEngineProvider.getIfAvailable();
+        if (engine == null) {
+            throw new RuntimeException("사용 가능한 검색 엔진이 없습니다");
+        }
+        try {
+            engine.rebuild(PostBatches::new);
+            return engine.documentCount();
+        } catch (Exception e) {
+            log.error("게시글 검색 인덱스 재생성 실패: {}", e.getMessage());
+            throw new RuntimeException("검색 인덱스 재생성에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    // 인덱스가 비어 있으면 (최초 기동, 인덱스 디렉터리 삭제 등) 전체 재생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        PostSearchEngine engine = searchEngineProvider.getIfAvailable();
+        if (engine == null) {
+            return;
+        }
+        try {
+            if (engine.documentCount() == 0 && postRepository.count() > 0) {
+                log.info("게시글 검색 인덱스가 비어 있어 재생성합니다");
+                rebuildIndex();
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 인덱스 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    // id 순서대로 게시글을 배치 단위로 읽어오는 반복자 (전체를 메모리에 올리지 않음)
+    private class PostBatches implements Iterator<List<PostChangedEvent>> {
+
+        private Long lastId = 0L;
+        private List<Post> next = fetch();
+
+        private List<Post> fetch() {
+            return postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !next.isEmpty();
+        }
+
+        @Override
+        public List<PostChangedEvent> next() {
+            if (next.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            List<PostChangedEvent> batch = next.stream()
+                    .map(PostChangedEvent::updated)
+                    .collect(Collectors.toList());
+            lastId = next.get(next.size() - 1).getId();
+            next = next.size() < REBUILD_BATCH_SIZE ? List.of() : fetch();
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.modules.post.service;
+
+import com.example.demo.common.counter.JdbcCounterBuffer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 게시글 좋아요 수 write-behind 버퍼.
+ * flush-interval 동안 몰린 좋아요/취소를 게시글당 한 번의 UPDATE 로 합쳐서 반영한다.
+ */
+@Component
+public class PostLikeCountBuffer extends JdbcCounterBuffer {
+
+    public PostLikeCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager, "게시글 좋아요 수", "posts", "like_count");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${like.flush-interval-ms:1000}")
+    public void flush() {
+        super.flush();
+    }
+
+    @Override
+    @PreDestroy
+    public void flushOnShutdown() {
+        super.flushOnShutdown();
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.demo.modules.post.service;
 
+import com.example.demo.common.pagination.Cursor;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.modules.post.dto.PostDto;
 import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.event.PostChangedEvent;
+import com.example.demo.modules.post.repository.PostLikeRepository;
 import com.example.demo.modules.post.repository.PostRepository;
+import com.example.demo.modules.post.repository.PostSummaryRow;
+import com.example.demo.modules.post.search.PostSearchHits;
+import com.example.demo.modules.post.search.PostSearchService;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.service.StatisticsRollupService;
 import com.example.demo.modules.user.entity.User;
 import com.example.demo.modules.user.repository.UserRepository;
 import com.example.demo.modules.category.entity.Category;
 import com.example.demo.modules.category.repository.CategoryRepository;
+import com.example.demo.modules.post.mapper.PostMapper;
+import com.example.demo.modules.post.mapper.PostSummaryMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,6 +31,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +45,16 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final ModelMapper modelMapper;
+    private final PostLikeRepository postLikeRepository;
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostLikeCountBuffer likeCountBuffer;
+    private final PostSearchService postSearchService;
+    private final StatisticsRollupService statisticsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostMapper postMapper;
+    private final PostSummaryMapper postSummaryMapper;
+
+    private static final int POPULAR_POST_LIMIT = 10;
 
     public PostDto.Response createPost(PostDto.CreateRequest request, Long authorId) {
         User author = userRepository.findById(authorId)
@@ -50,9 +75,11 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost));
+        statisticsRollupService.recordAfterCommit(StatisticType.DAILY_POSTS, StatisticsRollupService.CREATED, 1);
         log.info("새 게시글 생성됨: {} by {}", savedPost.getTitle(), author.getEmail());
 
-        return convertToResponse(savedPost);
+        return postMapper.map(savedPost);
     }
 
     @Transactional(readOnly = true)
@@ -60,17 +87,26 @@ public class PostService {
         Post post = postRepository.findByIdAndIsPublishedTrue(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + id));
 
-        // 조회수 증가
-        incrementViewCount(post);
+        // 조회수는 메모리 버퍼에만 기록하고 DB 반영은 주기적으로 일괄 처리
+        viewCountBuffer.increment(id);
+        statisticsRollupService.record(StatisticType.TOTAL_VIEWS, StatisticsRollupService.POST_VIEWS, 1);
 
-        return convertToResponse(post);
+        return postMapper.map(post);
     }
 
     @Transactional(readOnly = true)
-    public Page<PostDto.Response> getAllPosts(PostDto.SearchRequest searchRequest) {
+    public Page<PostDto.Summary> getAllPosts(PostDto.SearchRequest searchRequest) {
         Pageable pageable = createPageable(searchRequest);
 
-        Page<Post> posts = postRepository.findPostsWithFilters(
+        // 검색어가 있으면 전문 검색 엔진 사용, 실패 시 아래 JPA 검색으로 대체
+        if (postSearchService.canHandle(searchRequest)) {
+            Optional<PostSearchHits> hits = postSearchService.search(searchRequest);
+            if (hits.isPresent()) {
+                return toSearchResultPage(hits.get(), pageable);
+            }
+        }
+
+        Page<PostSummaryRow> posts = postRepository.findPostsWithFilters(
                 searchRequest.getKeyword(),
                 searchRequest.getCategoryId(),
                 searchRequest.getAuthorId(),
@@ -78,35 +114,72 @@ public class PostService {
                 pageable
         );
 
-        return posts.map(this::convertToResponse);
+        return posts.map(postSummaryMapper::map);
     }
 
     @Transactional(readOnly = true)
-    public Page<PostDto.Response> getPublishedPosts(int page, int size) {
+    public Page<PostDto.Summary> getPublishedPosts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> posts = postRepository.findByIsPublishedTrueOrderByCreatedAtDesc(pageable);
-        return posts.map(this::convertToResponse);
+        Page<PostSummaryRow> posts = postRepository.findPublishedSummaries(pageable);
+        return posts.map(postSummaryMapper::map);
     }
 
     @Transactional(readOnly = true)
-    public Page<PostDto.Response> getPostsByCategory(Long categoryId, int page, int size) {
+    public Page<PostDto.Summary> getPostsByCategory(Long categoryId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> posts = postRepository.findByCategoryIdAndIsPublishedTrueOrderByCreatedAtDesc(categoryId, pageable);
-        return posts.map(this::convertToResponse);
+        Page<PostSummaryRow> posts = postRepository.findSummariesByCategory(categoryId, pageable);
+        return posts.map(postSummaryMapper::map);
     }
 
     @Transactional(readOnly = true)
-    public Page<PostDto.Response> getPostsByAuthor(Long authorId, int page, int size) {
+    public Page<PostDto.Summary> getPostsByAuthor(Long authorId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> posts = postRepository.findByAuthorIdAndIsPublishedTrueOrderByCreatedAtDesc(authorId, pageable);
-        return posts.map(this::convertToResponse);
+        Page<PostSummaryRow> posts = postRepository.findSummariesByAuthor(authorId, pageable);
+        return posts.map(postSummaryMapper::map);
     }
 
     @Transactional(readOnly = true)
-    public List<PostDto.Response> getPopularPosts() {
-        return postRepository.findTop10ByIsPublishedTrueOrderByViewCountDesc().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<PostDto.Summary> getPostsByCursor(PostDto.SearchRequest searchRequest, String cursor) {
+        Cursor position = Cursor.decode(cursor);
+        List<PostSummaryRow> posts = postRepository.findFeedWithFilters(
+                searchRequest.getKeyword(),
+                searchRequest.getCategoryId(),
+                searchRequest.getAuthorId(),
+                searchRequest.getIsPublished(),
+                Cursor.createdAtOf(position),
+                Cursor.idOf(position),
+                CursorPage.limitFor(searchRequest.getSize())
+        );
+        return CursorPage.of(posts, searchRequest.getSize(), this::cursorOf, postSummaryMapper::map);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.Summary> getPublishedPostsByCursor(String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        List<PostSummaryRow> posts = postRepository.findPublishedFeed(
+                Cursor.createdAtOf(position), Cursor.idOf(position), CursorPage.limitFor(size));
+        return CursorPage.of(posts, size, this::cursorOf, postSummaryMapper::map);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.Summary> getPostsByCategoryCursor(Long categoryId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        List<PostSummaryRow> posts = postRepository.findCategoryFeed(
+                categoryId, Cursor.createdAtOf(position), Cursor.idOf(position), CursorPage.limitFor(size));
+        return CursorPage.of(posts, size, this::cursorOf, postSummaryMapper::map);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.Summary> getPostsByAuthorCursor(Long authorId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        List<PostSummaryRow> posts = postRepository.findAuthorFeed(
+                authorId, Cursor.createdAtOf(position), Cursor.idOf(position), CursorPage.limitFor(size));
+        return CursorPage.of(posts, size, this::cursorOf, postSummaryMapper::map);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostDto.Summary> getPopularPosts() {
+        return postSummaryMapper.mapAll(postRepository.findPopularSummaries(Limit.of(POPULAR_POST_LIMIT)));
     }
 
     public PostDto.Response updatePost(Long id, PostDto.UpdateRequest request, Long authorId) {
@@ -134,9 +207,10 @@ public class PostService {
         }
 
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(updatedPost));
         log.info("게시글 업데이트됨: {}", updatedPost.getTitle());
 
-        return convertToResponse(updatedPost);
+        return postMapper.map(updatedPost);
     }
 
     public void deletePost(Long id, Long authorId) {
@@ -148,59 +222,81 @@ public class PostService {
             throw new RuntimeException("게시글 삭제 권한이 없습니다");
         }
 
+        postLikeRepository.deleteAllByPostId(id);
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
+        statisticsRollupService.recordAfterCommit(StatisticType.DAILY_POSTS, StatisticsRollupService.DELETED, 1);
         log.info("게시글 삭제됨: {}", post.getTitle());
     }
 
-    public void likePost(Long postId) {
-        Post post = postRepository.findById(postId)
+    public PostDto.LikeResponse likePost(Long postId, Long userId) {
+        Integer likeCount = postRepository.findLikeCountById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + postId));
 
-        post.setLikeCount(post.getLikeCount() + 1);
-        postRepository.save(post);
-    }
+        // 좋아요 원장에 기록된 경우에만 카운트 증가 (중복 좋아요는 무시)
+        boolean inserted = postLikeRepository.insertIfAbsent(postId, userId) > 0;
+        if (inserted) {
+            likeCountBuffer.addAfterCommit(postId, 1);
+        }
 
-    @Transactional
-    protected void incrementViewCount(Post post) {
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        return PostDto.LikeResponse.builder()
+                .postId(postId)
+                .liked(true)
+                .likeCount(likeCount + (int) likeCountBuffer.getPending(postId) + (inserted ? 1 : 0))
+                .build();
     }
 
-    private PostDto.Response convertToResponse(Post post) {
-        PostDto.AuthorInfo authorInfo = PostDto.AuthorInfo.builder()
-                .id(post.getAuthor().getId())
-                .name(post.getAuthor().getName())
-                .nickname(post.getAuthor().getNickname())
-                .profileImageUrl(post.getAuthor().getProfileImageUrl())
-                .build();
+    public PostDto.LikeResponse unlikePost(Long postId, Long userId) {
+        Integer likeCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + postId));
 
-        PostDto.CategoryInfo categoryInfo = null;
-        if (post.getCategory() != null) {
-            categoryInfo = PostDto.CategoryInfo.builder()
-                    .id(post.getCategory().getId())
-                    .name(post.getCategory().getName())
-                    .color(post.getCategory().getColor())
-                    .build();
+        boolean deleted = postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0;
+        if (deleted) {
+            likeCountBuffer.addAfterCommit(postId, -1);
         }
 
-        return PostDto.Response.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(authorInfo)
-                .category(categoryInfo)
-                .viewCount(post.getViewCount())
-                .likeCount(post.getLikeCount())
-                .isPublished(post.getIsPublished())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
+        return PostDto.LikeResponse.builder()
+                .postId(postId)
+                .liked(false)
+                .likeCount(likeCount + (int) likeCountBuffer.getPending(postId) - (deleted ? 1 : 0))
                 .build();
     }
 
+    public long rebuildSearchIndex() {
+        return postSearchService.rebuildIndex();
+    }
+
+    // 검색 엔진 결과(관련도 순 ID 목록)를 한 번의 조회로 게시글 목록 응답으로 변환
+    private Page<PostDto.Summary> toSearchResultPage(PostSearchHits hits, Pageable pageable) {
+        List<Long> ids = hits.hits().stream()
+                .map(PostSearchHits.Hit::postId)
+                .collect(Collectors.toList());
+        Map<Long, PostSummaryRow> postsById = ids.isEmpty() ? Map.of() : postRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryRow::id, Function.identity()));
+
+        List<PostDto.Summary> content = hits.hits().stream()
+                .filter(hit -> postsById.containsKey(hit.postId()))
+                .map(hit -> {
+                    PostDto.Summary response = postSummaryMapper.map(postsById.get(hit.postId()));
+                    response.setHighlight(hit.highlight());
+                    return response;
+                })
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, hits.totalHits());
+    }
+
+    private Cursor cursorOf(PostSummaryRow row) {
+        return new Cursor(row.createdAt(), row.id());
+    }
+
     private Pageable createPageable(PostDto.SearchRequest searchRequest) {
         Sort.Direction direction = searchRequest.getSortDirection().equalsIgnoreCase("ASC") 
                 ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, searchRequest.getSortBy());
+        // 관련도 정렬은 검색 엔진에서만 가능하므로 JPA 검색에서는 최신순으로 대체
+        String sortBy = "relevance".equals(searchRequest.getSortBy()) ? "createdAt" : searchRequest.getSortBy();
+        Sort sort = Sort.by(direction, sortBy);
         return PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.demo.modules.post.service;
+
+import com.example.demo.common.counter.JdbcCounterBuffer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 조회 요청은 메모리 카운터만 증가시키고, 스케줄러가 flush-interval 마다
+ * "view_count = view_count + ?" 배치 UPDATE 로 반영한다.
+ * 장애 시 유실될 수 있는 조회수는 최대 flush-interval 동안 쌓인 양으로 제한된다.
+ */
+@Component
+public class PostViewCountBuffer extends JdbcCounterBuffer {
+
+    public PostViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager, "게시글 조회수", "posts", "view_count");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        super.flush();
+    }
+
+    @Override
+    @PreDestroy
+    public void flushOnShutdown() {
+        super.flushOnShutdown();
+    }
+}
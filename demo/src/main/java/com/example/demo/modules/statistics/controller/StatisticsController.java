@@ -1,6 +1,9 @@
 package com.example.demo.modules.statistics.controller;
 
 import com.example.demo.modules.statistics.dto.StatisticsDto;
+import com.example.demo.modules.statistics.enums.SeriesGranularity;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.service.StatisticsSeriesService;
 import com.example.demo.modules.statistics.service.StatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,9 +12,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/statistics")
 @RequiredArgsConstructor
@@ -20,6 +29,10 @@ import org.springframework.web.bind.annotation.*;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final StatisticsSeriesService statisticsSeriesService;
+
+    @Value("${statistics.series.recent-ttl-seconds:60}")
+    private long recentTtlSeconds;
 
     @Operation(summary = "대시보드 통계", description = "대시보드에서 사용할 주요 통계 정보를 조회합니다.")
     @SecurityRequirement(name = "bearerAuth")
@@ -31,4 +44,60 @@ public class StatisticsController {
         StatisticsDto.DashboardResponse response = statisticsService.getDashboardStatistics();
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "통계 시계열", description = "통계 유형별 일/주/월 단위 시계열을 조회합니다. 값이 없는 구간은 0 으로 채워집니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 구간")
+    })
+    @GetMapping("/series")
+    public ResponseEntity<StatisticsDto.SeriesResponse> getSeries(
+            @RequestParam StatisticType type,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "DAILY") SeriesGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            StatisticsDto.SeriesResponse response = statisticsSeriesService.getSeries(type, name, granularity, startDate, endDate);
+            return ResponseEntity.ok()
+                    .cacheControl(cacheControl(response.getImmutable()))
+                    .body(response);
+        } catch (RuntimeException e) {
+            log.debug("통계 시계열 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "기간별 상위 통계", description = "기간 내 통계 유형의 이름별 합계를 큰 순서로 조회합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 구간")
+    })
+    @GetMapping("/top")
+    public ResponseEntity<StatisticsDto.TopResponse> getTop(
+            @RequestParam StatisticType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            StatisticsDto.TopResponse response = statisticsSeriesService.getTop(type, startDate, endDate,
+                    Math.max(1, Math.min(limit, 100)));
+            return ResponseEntity.ok()
+                    .cacheControl(cacheControl(response.getImmutable()))
+                    .body(response);
+        } catch (RuntimeException e) {
+            log.debug("상위 통계 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 지난 기간은 바뀌지 않으므로 오래 캐시, 오늘이 포함된 기간은 서버 캐시 주기만큼만
+    private CacheControl cacheControl(boolean immutable) {
+        if (immutable) {
+            return CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+        }
+        return CacheControl.maxAge(Duration.ofSeconds(recentTtlSeconds)).cachePrivate();
+    }
+}
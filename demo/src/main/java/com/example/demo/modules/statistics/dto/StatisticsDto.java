@@ -1,5 +1,6 @@
 package com.example.demo.modules.statistics.dto;
 
+import com.example.demo.modules.statistics.enums.SeriesGranularity;
 import com.example.demo.modules.statistics.enums.StatisticType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -11,6 +12,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class StatisticsDto {
 
@@ -48,7 +50,7 @@ public class StatisticsDto {
     }
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(name = "StatisticsDashboardResponse", description = "대시보드 통계 응답 DTO")
@@ -61,6 +63,12 @@ public class StatisticsDto {
         private Long todayPosts;
         private Long todayComments;
         private Long monthlySignups;
+
+        @Schema(description = "통계 스냅샷 생성 시각")
+        private LocalDateTime generatedAt;
+
+        @Schema(description = "통계 스냅샷 경과 시간 (밀리초)")
+        private Long ageMillis;
     }
 
     @Data
@@ -84,4 +92,45 @@ public class StatisticsDto {
         private Long postCount;
         private String categoryColor;
     }
-} 
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "StatisticsSeriesResponse", description = "통계 시계열 응답 DTO")
+    public static class SeriesResponse {
+        private StatisticType type;
+        private SeriesGranularity granularity;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        @Schema(description = "조회 구간이 모두 지난 날짜라 더 이상 값이 바뀌지 않는지 여부")
+        private Boolean immutable;
+
+        private List<Series> series;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "StatisticsSeries", description = "통계 이름별 시계열 DTO")
+    public static class Series {
+        private String name;
+        private Long total;
+        private List<ChartData> points;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "StatisticsTopResponse", description = "기간별 상위 통계 응답 DTO")
+    public static class TopResponse {
+        private StatisticType type;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Boolean immutable;
+        private List<ChartData> items;
+    }
+}
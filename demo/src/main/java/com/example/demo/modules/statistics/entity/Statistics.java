@@ -13,7 +13,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "statistics")
+@Table(name = "statistics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_statistics_type_name_date", columnNames = {"type", "name", "date"}))
 @Data
 @Builder
 @NoArgsConstructor
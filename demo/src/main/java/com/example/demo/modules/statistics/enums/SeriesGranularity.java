@@ -0,0 +1,7 @@
+package com.example.demo.modules.statistics.enums;
+
+public enum SeriesGranularity {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -4,6 +4,7 @@ public enum StatisticType {
     DAILY_USERS,
     DAILY_POSTS,
     DAILY_COMMENTS,
+    DAILY_FILES,
     MONTHLY_SIGNUPS,
     POPULAR_CATEGORIES,
     TOTAL_VIEWS
@@ -40,4 +40,35 @@ public interface StatisticsRepository extends JpaRepository<Statistics, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
-} 
\ No newline at end of file
+
+    // 롤업 집계 조회 - (유형, 이름) 별 전체 합계
+    @Query("SELECT s.type, s.name, SUM(s.value) FROM Statistics s GROUP BY s.type, s.name")
+    List<Object[]> sumValueGroupByTypeAndName();
+
+    List<Statistics> findByDateGreaterThanEqual(LocalDate date);
+
+    // 시계열 조회 - (이름, 구간 시작일, 합계). 주 단위는 연/월 경계에서 나뉠 수 있으므로 호출 측에서 월요일 기준으로 병합
+    @Query("SELECT s.name, MIN(s.date), SUM(s.value) FROM Statistics s " +
+           "WHERE s.type = :type AND (:name IS NULL OR s.name = :name) AND s.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.name, s.date")
+    List<Object[]> sumDailyByTypeBetweenDates(@Param("type") StatisticType type,
+                                              @Param("name") String name,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s.name, MIN(s.date), SUM(s.value) FROM Statistics s " +
+           "WHERE s.type = :type AND (:name IS NULL OR s.name = :name) AND s.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.name, EXTRACT(YEAR FROM s.date), EXTRACT(MONTH FROM s.date), EXTRACT(WEEK FROM s.date)")
+    List<Object[]> sumWeeklyByTypeBetweenDates(@Param("type") StatisticType type,
+                                               @Param("name") String name,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s.name, MIN(s.date), SUM(s.value) FROM Statistics s " +
+           "WHERE s.type = :type AND (:name IS NULL OR s.name = :name) AND s.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.name, EXTRACT(YEAR FROM s.date), EXTRACT(MONTH FROM s.date)")
+    List<Object[]> sumMonthlyByTypeBetweenDates(@Param("type") StatisticType type,
+                                                @Param("name") String name,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+}
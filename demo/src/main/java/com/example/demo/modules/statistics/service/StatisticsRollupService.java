@@ -0,0 +1,212 @@
+package com.example.demo.modules.statistics.service;
+
+import com.example.demo.common.counter.DeltaBuffer;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.repository.StatisticsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통계 롤업 집계기.
+ * 가입/게시글/댓글/파일/조회 등의 도메인 이벤트를 (유형, 이름, 날짜) 단위로 메모리에 모았다가
+ * 주기적으로 statistics 테이블에 upsert 한다. 대시보드는 원본 테이블 대신 집계 행과 아직 반영되지 않은 증감분을 읽는다.
+ * 집계 행이 하나도 없으면 기동 시 원본 테이블에서 한 번 채운다(backfill).
+ * 날짜를 알 수 없는 backfill 값(누적 조회수, 비활성 사용자 수)은 BASELINE_DATE 로 저장해
+ * 전체 합계에만 포함되고 일/주/월 시계열과 오늘/이번 달 집계에는 나타나지 않게 한다.
+ * flush 가 버퍼에서 꺼낸 증감분은 upsert 트랜잭션이 커밋될 때까지 pending() 에 계속 포함된다.
+ * 집계 행과 pending() 을 함께 읽는 쪽은 flushSequence() 로 그 사이에 커밋이 끼어들지 않았는지 확인한다.
+ */
+@Service
+@Slf4j
+public class StatisticsRollupService {
+
+    // 통계 이름 (StatisticType 과 조합해 사용)
+    public static final String SIGNUPS = "signups";
+    public static final String DEACTIVATIONS = "deactivations";
+    public static final String CREATED = "created";
+    public static final String DELETED = "deleted";
+    public static final String POST_VIEWS = "post_views";
+
+    // 발생일을 알 수 없는 backfill 기준값의 날짜 (MySQL DATE 최솟값, 시계열 조회 구간에 포함될 수 없음)
+    public static final LocalDate BASELINE_DATE = LocalDate.of(1000, 1, 1);
+
+    private static final String UPSERT_SQL = "INSERT INTO statistics (type, name, value, date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE value = value + ?, updated_at = NOW()";
+
+    private final StatisticsRepository statisticsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DeltaBuffer<RollupKey> buffer = new DeltaBuffer<>();
+
+    // 버퍼에서 꺼냈지만 아직 커밋되지 않은 증감분 (inFlightLock 으로 보호)
+    private final Object inFlightLock = new Object();
+    private Map<RollupKey, Long> inFlight = Map.of();
+    // 커밋 직전에 홀수, inFlight 를 비운 뒤 짝수가 되는 순번 (조회 전후 같은 짝수이면 집계 행과 pending() 이 일치)
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    private volatile boolean ready;
+    // 마지막으로 성공한 flush 가 버퍼를 비우기 시작한 시각. 이 시각 전에 기록된 증감분은 모두 DB 에 반영되어 있다
+    private volatile LocalDateTime flushedUpTo = LocalDateTime.MIN;
+
+    public StatisticsRollupService(StatisticsRepository statisticsRepository, JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        this.statisticsRepository = statisticsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void record(StatisticType type, String name, long delta) {
+        buffer.add(new RollupKey(type, name, LocalDate.now()), delta);
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에만 집계 (롤백된 변경이 통계에 남지 않도록)
+    public void recordAfterCommit(StatisticType type, String name, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(type, name, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(type, name, delta);
+            }
+        });
+    }
+
+    // backfill 이 끝나 집계 행을 신뢰할 수 있는지
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 해당 날짜가 끝난 뒤 시작된 flush 가 성공해, 그 날짜의 증감분이 모두 DB 에 반영되었는지
+    public boolean isFlushedThrough(LocalDate date) {
+        return !flushedUpTo.isBefore(date.plusDays(1).atStartOfDay());
+    }
+
+    // 아직 DB 에 반영되지 않은 증감분 (반영 중인 증감분 포함)
+    public Map<RollupKey, Long> pending() {
+        synchronized (inFlightLock) {
+            Map<RollupKey, Long> pending = buffer.snapshot();
+            inFlight.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+            return pending;
+        }
+    }
+
+    public long flushSequence() {
+        return flushSequence.get();
+    }
+
+    // 조회 시작 시점의 순번과 비교해, 그 사이 집계 행에 반영된 flush 가 없었는지
+    public boolean isConsistentSince(long sequence) {
+        return sequence % 2 == 0 && flushSequence.get() == sequence;
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.rollup.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<RollupKey, Long> drained;
+        synchronized (inFlightLock) {
+            drained = buffer.drain();
+            inFlight = drained;
+        }
+        if (drained.isEmpty()) {
+            flushedUpTo = startedAt;
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(drained.size());
+        drained.forEach((key, delta) -> batchArgs.add(new Object[]{
+                key.type().name(), key.name(), delta, Date.valueOf(key.date()), delta}));
+        try {
+            // 한 트랜잭션으로 반영해 실패 시 전부 롤백 (꺼낸 증감분 전체를 되돌려도 중복 반영되지 않음)
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+                flushSequence.incrementAndGet();
+            });
+            synchronized (inFlightLock) {
+                inFlight = Map.of();
+            }
+            flushedUpTo = startedAt;
+            log.debug("통계 롤업 반영: {}개 항목", drained.size());
+        } catch (Exception e) {
+            synchronized (inFlightLock) {
+                buffer.restore(drained);
+                inFlight = Map.of();
+            }
+            log.error("통계 롤업 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        } finally {
+            if (flushSequence.get() % 2 != 0) {
+                flushSequence.incrementAndGet();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (statisticsRepository.count() == 0) {
+                backfill();
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.error("통계 롤업 초기화 실패, 대시보드는 원본 테이블을 직접 집계합니다: {}", e.getMessage());
+        }
+    }
+
+    // 원본 테이블의 생성일별 건수로 집계 행을 만든다 (과거 삭제/비활성화 이력은 알 수 없으므로 현재 상태 기준)
+    private void backfill() {
+        Map<RollupKey, Long> rows = new HashMap<>();
+        countByCreatedDate(rows, StatisticType.DAILY_USERS, SIGNUPS, "users", "created_at");
+        countByCreatedDate(rows, StatisticType.DAILY_POSTS, CREATED, "posts", "created_at");
+        countByCreatedDate(rows, StatisticType.DAILY_COMMENTS, CREATED, "comments", "created_at");
+        countByCreatedDate(rows, StatisticType.DAILY_FILES, CREATED, "files", "uploaded_at");
+
+        // 비활성화/조회 시점은 기록되어 있지 않으므로 오늘 날짜가 아닌 기준값으로 저장
+        Long inactiveUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE is_active = false", Long.class);
+        rows.merge(new RollupKey(StatisticType.DAILY_USERS, DEACTIVATIONS, BASELINE_DATE), inactiveUsers, Long::sum);
+        Long totalViews = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(view_count), 0) FROM posts", Long.class);
+        rows.merge(new RollupKey(StatisticType.TOTAL_VIEWS, POST_VIEWS, BASELINE_DATE), totalViews, Long::sum);
+
+        rows.forEach(buffer::add);
+        flush();
+        log.info("통계 롤업 초기 집계 완료: {}개 항목", rows.size());
+    }
+
+    private void countByCreatedDate(Map<RollupKey, Long> rows, StatisticType type, String name,
+                                    String table, String dateColumn) {
+        jdbcTemplate.query("SELECT CAST(" + dateColumn + " AS DATE) AS d, COUNT(*) AS c FROM " + table +
+                " WHERE " + dateColumn + " IS NOT NULL GROUP BY CAST(" + dateColumn + " AS DATE)",
+                (RowCallbackHandler) rs -> rows.merge(
+                        new RollupKey(type, name, rs.getDate("d").toLocalDate()), rs.getLong("c"), Long::sum));
+    }
+
+    public record RollupKey(StatisticType type, String name, LocalDate date) {
+    }
+}
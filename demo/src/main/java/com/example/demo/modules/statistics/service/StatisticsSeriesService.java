@@ -0,0 +1,236 @@
+package com.example.demo.modules.statistics.service;
+
+import com.example.demo.modules.statistics.dto.StatisticsDto;
+import com.example.demo.modules.statistics.enums.SeriesGranularity;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.repository.StatisticsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * 통계 시계열/상위 항목 조회.
+ * 일/주/월 단위 합계는 DB 에서 묶어 가져오고, 값이 없는 구간은 0 으로 채운다.
+ * 이미 지난 기간(그 기간이 끝난 뒤 시작된 롤업 flush 가 성공한 경우)은 값이 바뀌지 않으므로 만료 없이 캐시하고,
+ * 오늘이 포함된 기간은 아직 반영되지 않은 증감분을 더해 짧은 시간만 캐시한다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class StatisticsSeriesService {
+
+    private static final DateTimeFormatter MONTH_LABEL = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final StatisticsRepository statisticsRepository;
+    private final StatisticsRollupService rollupService;
+    private final int maxPoints;
+    private final Cache<Object, Object> immutableCache;
+    private final Cache<Object, Object> recentCache;
+
+    public StatisticsSeriesService(StatisticsRepository statisticsRepository,
+                                   StatisticsRollupService rollupService,
+                                   @Value("${statistics.series.max-points:1000}") int maxPoints,
+                                   @Value("${statistics.series.cache-max-size:10000}") long cacheMaxSize,
+                                   @Value("${statistics.series.recent-ttl-seconds:60}") long recentTtlSeconds) {
+        this.statisticsRepository = statisticsRepository;
+        this.rollupService = rollupService;
+        this.maxPoints = maxPoints;
+        this.immutableCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .build();
+        this.recentCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(recentTtlSeconds))
+                .build();
+    }
+
+    public StatisticsDto.SeriesResponse getSeries(StatisticType type, String name, SeriesGranularity granularity,
+                                                  LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        long points = countBuckets(granularity, startDate, endDate);
+        if (points > maxPoints) {
+            throw new RuntimeException("조회 구간이 너무 깁니다: " + points + "개 (최대 " + maxPoints + "개)");
+        }
+        boolean immutable = isImmutable(endDate);
+        return cached(new SeriesKey(type, name, granularity, startDate, endDate), immutable,
+                () -> loadSeries(type, name, granularity, startDate, endDate, immutable));
+    }
+
+    public StatisticsDto.TopResponse getTop(StatisticType type, LocalDate startDate, LocalDate endDate, int limit) {
+        validateRange(startDate, endDate);
+        boolean immutable = isImmutable(endDate);
+        return cached(new TopKey(type, startDate, endDate, limit), immutable,
+                () -> loadTop(type, startDate, endDate, limit, immutable));
+    }
+
+    // 종료일이 끝난 뒤 시작된 flush 가 성공했으면 해당 기간의 증감분이 모두 DB 에 있어 더 이상 바뀌지 않음
+    // (버퍼가 비어 있는 것만으로는 판단하지 않음: flush 는 upsert 커밋 전에 버퍼를 비우고, 실패하면 되돌린다)
+    public boolean isImmutable(LocalDate endDate) {
+        return rollupService.isReady() && rollupService.isFlushedThrough(endDate);
+    }
+
+    private StatisticsDto.SeriesResponse loadSeries(StatisticType type, String name, SeriesGranularity granularity,
+                                                    LocalDate startDate, LocalDate endDate, boolean immutable) {
+        List<Object[]> rows = switch (granularity) {
+            case DAILY -> statisticsRepository.sumDailyByTypeBetweenDates(type, name, startDate, endDate);
+            case WEEKLY -> statisticsRepository.sumWeeklyByTypeBetweenDates(type, name, startDate, endDate);
+            case MONTHLY -> statisticsRepository.sumMonthlyByTypeBetweenDates(type, name, startDate, endDate);
+        };
+
+        // 이름 → (구간 시작일 → 합계)
+        Map<String, Map<LocalDate, Long>> buckets = new TreeMap<>();
+        if (name != null) {
+            buckets.put(name, new HashMap<>());
+        }
+        for (Object[] row : rows) {
+            buckets.computeIfAbsent((String) row[0], key -> new HashMap<>())
+                    .merge(bucketStart(granularity, (LocalDate) row[1]), ((Number) row[2]).longValue(), Long::sum);
+        }
+        if (!immutable) {
+            rollupService.pending().forEach((key, delta) -> {
+                if (key.type() == type && (name == null || name.equals(key.name()))
+                        && !key.date().isBefore(startDate) && !key.date().isAfter(endDate)) {
+                    buckets.computeIfAbsent(key.name(), k -> new HashMap<>())
+                            .merge(bucketStart(granularity, key.date()), delta, Long::sum);
+                }
+            });
+        }
+
+        List<StatisticsDto.Series> series = new ArrayList<>(buckets.size());
+        buckets.forEach((seriesName, values) -> {
+            List<StatisticsDto.ChartData> points = new ArrayList<>();
+            long total = 0;
+            LocalDate end = bucketStart(granularity, endDate);
+            for (LocalDate bucket = bucketStart(granularity, startDate); !bucket.isAfter(end); bucket = nextBucket(granularity, bucket)) {
+                long value = values.getOrDefault(bucket, 0L);
+                total += value;
+                points.add(StatisticsDto.ChartData.builder()
+                        .label(label(granularity, bucket))
+                        .value(value)
+                        .date(bucket)
+                        .build());
+            }
+            series.add(StatisticsDto.Series.builder()
+                    .name(seriesName)
+                    .total(total)
+                    .points(points)
+                    .build());
+        });
+
+        return StatisticsDto.SeriesResponse.builder()
+                .type(type)
+                .granularity(granularity)
+                .startDate(startDate)
+                .endDate(endDate)
+                .immutable(immutable)
+                .series(series)
+                .build();
+    }
+
+    private StatisticsDto.TopResponse loadTop(StatisticType type, LocalDate startDate, LocalDate endDate,
+                                              int limit, boolean immutable) {
+        Map<String, Long> totals = new HashMap<>();
+        for (Object[] row : statisticsRepository.findAggregatedByTypeBetweenDates(type, startDate, endDate)) {
+            totals.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        if (!immutable) {
+            rollupService.pending().forEach((key, delta) -> {
+                if (key.type() == type && !key.date().isBefore(startDate) && !key.date().isAfter(endDate)) {
+                    totals.merge(key.name(), delta, Long::sum);
+                }
+            });
+        }
+
+        List<StatisticsDto.ChartData> items = totals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> StatisticsDto.ChartData.builder()
+                        .label(entry.getKey())
+                        .value(entry.getValue())
+                        .build())
+                .toList();
+
+        return StatisticsDto.TopResponse.builder()
+                .type(type)
+                .startDate(startDate)
+                .endDate(endDate)
+                .immutable(immutable)
+                .items(items)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(Object key, boolean immutable, Supplier<T> loader) {
+        Cache<Object, Object> cache = immutable ? immutableCache : recentCache;
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new RuntimeException("시작일이 종료일보다 늦습니다: " + startDate + " > " + endDate);
+        }
+        // backfill 기준값 행은 특정 날짜의 값이 아니므로 시계열에 포함하지 않음
+        if (!startDate.isAfter(StatisticsRollupService.BASELINE_DATE)) {
+            throw new RuntimeException("시작일이 너무 이릅니다: " + startDate);
+        }
+    }
+
+    private static long countBuckets(SeriesGranularity granularity, LocalDate startDate, LocalDate endDate) {
+        LocalDate start = bucketStart(granularity, startDate);
+        LocalDate end = bucketStart(granularity, endDate);
+        return switch (granularity) {
+            case DAILY -> ChronoUnit.DAYS.between(start, end) + 1;
+            case WEEKLY -> ChronoUnit.WEEKS.between(start, end) + 1;
+            case MONTHLY -> ChronoUnit.MONTHS.between(start, end) + 1;
+        };
+    }
+
+    private static LocalDate bucketStart(SeriesGranularity granularity, LocalDate date) {
+        return switch (granularity) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate nextBucket(SeriesGranularity granularity, LocalDate bucket) {
+        return switch (granularity) {
+            case DAILY -> bucket.plusDays(1);
+            case WEEKLY -> bucket.plusWeeks(1);
+            case MONTHLY -> bucket.plusMonths(1);
+        };
+    }
+
+    private static String label(SeriesGranularity granularity, LocalDate bucket) {
+        return switch (granularity) {
+            case DAILY -> bucket.toString();
+            case WEEKLY -> bucket.get(IsoFields.WEEK_BASED_YEAR) + "-W"
+                    + String.format("%02d", bucket.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTHLY -> bucket.format(MONTH_LABEL);
+        };
+    }
+
+    private record SeriesKey(StatisticType type, String name, SeriesGranularity granularity,
+                             LocalDate startDate, LocalDate endDate) {
+    }
+
+    private record TopKey(StatisticType type, LocalDate startDate, LocalDate endDate, int limit) {
+    }
+}
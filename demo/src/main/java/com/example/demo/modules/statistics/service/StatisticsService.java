@@ -1,30 +1,175 @@
 package com.example.demo.modules.statistics.service;
 
+import com.example.demo.common.cache.SnapshotCache;
 import com.example.demo.modules.comment.repository.CommentRepository;
 import com.example.demo.modules.file.repository.FileRepository;
 import com.example.demo.modules.post.repository.PostRepository;
 import com.example.demo.modules.statistics.dto.StatisticsDto;
+import com.example.demo.modules.statistics.entity.Statistics;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.repository.StatisticsRepository;
 import com.example.demo.modules.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class StatisticsService {
 
+    private static final int MAX_ROLLUP_READ_ATTEMPTS = 3;
+
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final FileRepository fileRepository;
+    private final StatisticsRepository statisticsRepository;
+    private final StatisticsRollupService rollupService;
+    private final Executor queryExecutor;
+    private final SnapshotCache<StatisticsDto.DashboardResponse> dashboardCache;
+
+    public StatisticsService(UserRepository userRepository,
+                             PostRepository postRepository,
+                             CommentRepository commentRepository,
+                             FileRepository fileRepository,
+                             StatisticsRepository statisticsRepository,
+                             StatisticsRollupService rollupService,
+                             @Qualifier("statisticsQueryExecutor") Executor queryExecutor,
+                             @Qualifier("statisticsRefreshExecutor") Executor refreshExecutor,
+                             @Value("${statistics.dashboard.cache-ttl-ms:30000}") long cacheTtlMillis,
+                             @Value("${statistics.dashboard.max-stale-ms:300000}") long maxStaleMillis) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.fileRepository = fileRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.rollupService = rollupService;
+        this.queryExecutor = queryExecutor;
+        this.dashboardCache = new SnapshotCache<>("대시보드 통계", this::computeDashboardStatistics,
+                cacheTtlMillis, maxStaleMillis, refreshExecutor);
+    }
 
+    // 캐시된 스냅샷을 응답 (ttl 이 지났으면 백그라운드 갱신, 응답에 생성 시각/경과 시간 포함)
     public StatisticsDto.DashboardResponse getDashboardStatistics() {
+        SnapshotCache.Snapshot<StatisticsDto.DashboardResponse> snapshot;
+        try {
+            snapshot = dashboardCache.get();
+        } catch (Exception e) {
+            log.error("Error fetching dashboard statistics: {}", e.getMessage());
+            // 오류 발생 시 기본값 반환 (캐시하지 않음)
+            return emptyDashboard();
+        }
+        return snapshot.value().toBuilder()
+                .generatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.generatedAtMillis()), ZoneId.systemDefault()))
+                .ageMillis(snapshot.ageMillis())
+                .build();
+    }
+
+    public SnapshotCache<StatisticsDto.DashboardResponse> getDashboardCache() {
+        return dashboardCache;
+    }
+
+    private StatisticsDto.DashboardResponse computeDashboardStatistics() {
+        if (rollupService.isReady()) {
+            try {
+                return getDashboardStatisticsFromRollup();
+            } catch (Exception e) {
+                log.warn("통계 롤업 조회 실패, 원본 테이블을 직접 집계합니다: {}", e.getMessage());
+            }
+        }
+        return getLiveDashboardStatistics();
+    }
+
+    // 집계 행 + 아직 반영되지 않은 증감분으로 계산 (원본 테이블 크기와 무관)
+    private StatisticsDto.DashboardResponse getDashboardStatisticsFromRollup() {
+        LocalDate today = LocalDate.now();
+        LocalDate startOfMonth = YearMonth.now().atDay(1);
+
+        // 집계 행을 읽은 뒤 pending() 을 읽기 전에 flush 가 커밋되면 그 증감분이 빠지므로, 그런 경우 다시 읽음
+        List<Object[]> totalRows;
+        List<Statistics> monthRows;
+        Map<StatisticsRollupService.RollupKey, Long> pending;
+        int attempt = 0;
+        while (true) {
+            long sequence = rollupService.flushSequence();
+            CompletableFuture<List<Object[]>> totalFuture = supplyAsync(statisticsRepository::sumValueGroupByTypeAndName);
+            CompletableFuture<List<Statistics>> monthFuture = supplyAsync(
+                    () -> statisticsRepository.findByDateGreaterThanEqual(startOfMonth));
+            totalRows = totalFuture.join();
+            monthRows = monthFuture.join();
+            pending = rollupService.pending();
+            if (rollupService.isConsistentSince(sequence)) {
+                break;
+            }
+            if (++attempt >= MAX_ROLLUP_READ_ATTEMPTS) {
+                throw new RuntimeException("통계 롤업 반영 중이라 일관된 값을 읽지 못했습니다");
+            }
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        for (Object[] row : totalRows) {
+            totals.merge(keyOf((StatisticType) row[0], (String) row[1]), ((Number) row[2]).longValue(), Long::sum);
+        }
+        Map<String, Long> todays = new HashMap<>();
+        Map<String, Long> months = new HashMap<>();
+        for (Statistics row : monthRows) {
+            String key = keyOf(row.getType(), row.getName());
+            months.merge(key, row.getValue(), Long::sum);
+            if (row.getDate().equals(today)) {
+                todays.merge(key, row.getValue(), Long::sum);
+            }
+        }
+        pending.forEach((rollupKey, delta) -> {
+            String key = keyOf(rollupKey.type(), rollupKey.name());
+            totals.merge(key, delta, Long::sum);
+            if (!rollupKey.date().isBefore(startOfMonth)) {
+                months.merge(key, delta, Long::sum);
+            }
+            if (rollupKey.date().equals(today)) {
+                todays.merge(key, delta, Long::sum);
+            }
+        });
+
+        String signups = keyOf(StatisticType.DAILY_USERS, StatisticsRollupService.SIGNUPS);
+        String postsCreated = keyOf(StatisticType.DAILY_POSTS, StatisticsRollupService.CREATED);
+        String commentsCreated = keyOf(StatisticType.DAILY_COMMENTS, StatisticsRollupService.CREATED);
+
+        return StatisticsDto.DashboardResponse.builder()
+                .totalUsers(totals.getOrDefault(signups, 0L)
+                        - totals.getOrDefault(keyOf(StatisticType.DAILY_USERS, StatisticsRollupService.DEACTIVATIONS), 0L))
+                .totalPosts(totals.getOrDefault(postsCreated, 0L)
+                        - totals.getOrDefault(keyOf(StatisticType.DAILY_POSTS, StatisticsRollupService.DELETED), 0L))
+                .totalComments(totals.getOrDefault(commentsCreated, 0L)
+                        - totals.getOrDefault(keyOf(StatisticType.DAILY_COMMENTS, StatisticsRollupService.DELETED), 0L))
+                .totalFiles(totals.getOrDefault(keyOf(StatisticType.DAILY_FILES, StatisticsRollupService.CREATED), 0L)
+                        - totals.getOrDefault(keyOf(StatisticType.DAILY_FILES, StatisticsRollupService.DELETED), 0L))
+                .todayUsers(todays.getOrDefault(signups, 0L))
+                .todayPosts(todays.getOrDefault(postsCreated, 0L))
+                .todayComments(todays.getOrDefault(commentsCreated, 0L))
+                .monthlySignups(months.getOrDefault(signups, 0L))
+                .build();
+    }
+
+    private static String keyOf(StatisticType type, String name) {
+        return type.name() + ":" + name;
+    }
+
+    // 원본 테이블을 직접 COUNT (롤업을 사용할 수 없을 때, 8개 쿼리를 병렬 실행)
+    private StatisticsDto.DashboardResponse getLiveDashboardStatistics() {
         // 오늘 날짜 범위 설정
         LocalDate today = LocalDate.now();
         LocalDateTime startOfDay = today.atStartOfDay();
@@ -35,50 +180,52 @@ public class StatisticsService {
         LocalDateTime startOfMonth = currentMonth.atDay(1).atStartOfDay();
         LocalDateTime endOfMonth = currentMonth.atEndOfMonth().atTime(LocalTime.MAX);
 
-        try {
-            // 총 통계
-            long totalUsers = userRepository.countByIsActiveTrue();
-            long totalPosts = postRepository.count();
-            long totalComments = commentRepository.count();
-            long totalFiles = fileRepository.count();
-
-            // 오늘 통계
-            long todayUsers = userRepository.countByCreatedAtBetween(startOfDay, endOfDay);
-            long todayPosts = postRepository.countByCreatedAtBetween(startOfDay, endOfDay);
-            long todayComments = commentRepository.countByCreatedAtBetween(startOfDay, endOfDay);
-
-            // 이번 달 가입자 수
-            long monthlySignups = userRepository.countByCreatedAtBetween(startOfMonth, endOfMonth);
-
-            log.debug("Dashboard statistics - Total: Users={}, Posts={}, Comments={}, Files={}, " +
-                     "Today: Users={}, Posts={}, Comments={}, Monthly Signups={}", 
-                     totalUsers, totalPosts, totalComments, totalFiles,
-                     todayUsers, todayPosts, todayComments, monthlySignups);
-
-            return StatisticsDto.DashboardResponse.builder()
-                    .totalUsers(totalUsers)
-                    .totalPosts(totalPosts)
-                    .totalComments(totalComments)
-                    .totalFiles(totalFiles)
-                    .todayUsers(todayUsers)
-                    .todayPosts(todayPosts)
-                    .todayComments(todayComments)
-                    .monthlySignups(monthlySignups)
-                    .build();
+        // 총 통계
+        CompletableFuture<Long> totalUsers = supplyAsync(userRepository::countByIsActiveTrue);
+        CompletableFuture<Long> totalPosts = supplyAsync(postRepository::count);
+        CompletableFuture<Long> totalComments = supplyAsync(commentRepository::count);
+        CompletableFuture<Long> totalFiles = supplyAsync(fileRepository::count);
 
-        } catch (Exception e) {
-            log.error("Error fetching dashboard statistics: {}", e.getMessage());
-            // 오류 발생 시 기본값 반환
-            return StatisticsDto.DashboardResponse.builder()
-                    .totalUsers(0L)
-                    .totalPosts(0L)
-                    .totalComments(0L)
-                    .totalFiles(0L)
-                    .todayUsers(0L)
-                    .todayPosts(0L)
-                    .todayComments(0L)
-                    .monthlySignups(0L)
-                    .build();
-        }
+        // 오늘 통계
+        CompletableFuture<Long> todayUsers = supplyAsync(() -> userRepository.countByCreatedAtBetween(startOfDay, endOfDay));
+        CompletableFuture<Long> todayPosts = supplyAsync(() -> postRepository.countByCreatedAtBetween(startOfDay, endOfDay));
+        CompletableFuture<Long> todayComments = supplyAsync(() -> commentRepository.countByCreatedAtBetween(startOfDay, endOfDay));
+
+        // 이번 달 가입자 수
+        CompletableFuture<Long> monthlySignups = supplyAsync(() -> userRepository.countByCreatedAtBetween(startOfMonth, endOfMonth));
+
+        StatisticsDto.DashboardResponse response = StatisticsDto.DashboardResponse.builder()
+                .totalUsers(totalUsers.join())
+                .totalPosts(totalPosts.join())
+                .totalComments(totalComments.join())
+                .totalFiles(totalFiles.join())
+                .todayUsers(todayUsers.join())
+                .todayPosts(todayPosts.join())
+                .todayComments(todayComments.join())
+                .monthlySignups(monthlySignups.join())
+                .build();
+
+        log.debug("Dashboard statistics - Total: Users={}, Posts={}, Comments={}, Files={}, " +
+                 "Today: Users={}, Posts={}, Comments={}, Monthly Signups={}", 
+                 response.getTotalUsers(), response.getTotalPosts(), response.getTotalComments(), response.getTotalFiles(),
+                 response.getTodayUsers(), response.getTodayPosts(), response.getTodayComments(), response.getMonthlySignups());
+        return response;
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, queryExecutor);
+    }
+
+    private StatisticsDto.DashboardResponse emptyDashboard() {
+        return StatisticsDto.DashboardResponse.builder()
+                .totalUsers(0L)
+                .totalPosts(0L)
+                .totalComments(0L)
+                .totalFiles(0L)
+                .todayUsers(0L)
+                .todayPosts(0L)
+                .todayComments(0L)
+                .monthlySignups(0L)
+                .build();
     }
-} 
\ No newline at end of file
+}
@@ -73,6 +73,7 @@ public class UserDto {
         private String nickname;
         private String phoneNumber;
         private String profileImageUrl;
+        private String profileThumbnailUrl;
         private Role role;
         private Boolean isActive;
         private LocalDateTime createdAt;
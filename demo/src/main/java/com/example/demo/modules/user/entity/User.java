@@ -37,6 +37,9 @@ public class User {
     private String phoneNumber;
     
     private String profileImageUrl;
+
+    // 프로필 이미지가 업로드된 이미지 파일이면 그 썸네일 URL (목록 화면에서 사용)
+    private String profileThumbnailUrl;
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -0,0 +1,27 @@
+package com.example.demo.modules.user.mapper;
+
+import com.example.demo.common.mapper.Mapper;
+import com.example.demo.modules.user.dto.UserDto;
+import com.example.demo.modules.user.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMapper implements Mapper<User, UserDto.Response> {
+
+    @Override
+    public UserDto.Response map(User user) {
+        return UserDto.Response.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .nickname(user.getNickname())
+                .phoneNumber(user.getPhoneNumber())
+                .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(user.getProfileThumbnailUrl())
+                .role(user.getRole())
+                .isActive(user.getIsActive())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.modules.user.repository;
 
 import com.example.demo.modules.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -31,4 +32,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     List<User> findByIsActiveTrueOrderByCreatedAtDesc();
+
+    @Modifying
+    @Query("UPDATE User u SET u.profileThumbnailUrl = :thumbnailUrl WHERE u.profileImageUrl = :profileImageUrl")
+    int updateProfileThumbnailUrl(@Param("profileImageUrl") String profileImageUrl,
+                                  @Param("thumbnailUrl") String thumbnailUrl);
 } 
\ No newline at end of file
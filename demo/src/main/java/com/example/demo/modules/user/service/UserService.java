@@ -1,13 +1,18 @@
 package com.example.demo.modules.user.service;
 
+import com.example.demo.modules.file.entity.FileEntity;
+import com.example.demo.modules.file.repository.FileRepository;
 import com.example.demo.modules.user.dto.UserDto;
+import com.example.demo.modules.statistics.enums.StatisticType;
+import com.example.demo.modules.statistics.service.StatisticsRollupService;
 import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.mapper.UserMapper;
 import com.example.demo.modules.user.repository.UserRepository;
 import com.example.demo.security.JwtTokenProvider;
 import com.example.demo.security.UserPrincipal;
+import com.example.demo.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,7 +22,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,10 +30,13 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final FileRepository fileRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
-    private final ModelMapper modelMapper;
+    private final UserPrincipalCache userPrincipalCache;
+    private final StatisticsRollupService statisticsRollupService;
+    private final UserMapper userMapper;
 
     public UserDto.Response createUser(UserDto.CreateRequest request) {
         // 이메일 중복 검사
@@ -47,9 +54,10 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        statisticsRollupService.recordAfterCommit(StatisticType.DAILY_USERS, StatisticsRollupService.SIGNUPS, 1);
         log.info("새 사용자 생성됨: {}", savedUser.getEmail());
 
-        return modelMapper.map(savedUser, UserDto.Response.class);
+        return userMapper.map(savedUser);
     }
 
     public UserDto.LoginResponse login(UserDto.LoginRequest request) {
@@ -70,7 +78,7 @@ public class UserService {
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        UserDto.Response userResponse = modelMapper.map(user, UserDto.Response.class);
+        UserDto.Response userResponse = userMapper.map(user);
 
         return UserDto.LoginResponse.builder()
                 .accessToken(jwt)
@@ -83,14 +91,12 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
 
-        return modelMapper.map(user, UserDto.Response.class);
+        return userMapper.map(user);
     }
 
     @Transactional(readOnly = true)
     public List<UserDto.Response> getAllActiveUsers() {
-        return userRepository.findAllActiveUsers().stream()
-                .map(user -> modelMapper.map(user, UserDto.Response.class))
-                .collect(Collectors.toList());
+        return userMapper.mapAll(userRepository.findAllActiveUsers());
     }
 
     public UserDto.Response updateUser(Long id, UserDto.UpdateRequest request) {
@@ -108,12 +114,16 @@ public class UserService {
         }
         if (request.getProfileImageUrl() != null) {
             user.setProfileImageUrl(request.getProfileImageUrl());
+            // 업로드된 이미지라면 이미 만들어진 썸네일을 연결 (아직 없으면 생성이 끝날 때 연결됨)
+            user.setProfileThumbnailUrl(fileRepository.findFirstByFilePathAndThumbnailPathIsNotNull(request.getProfileImageUrl())
+                    .map(FileEntity::getThumbnailPath)
+                    .orElse(null));
         }
 
         User updatedUser = userRepository.save(user);
         log.info("사용자 정보 업데이트됨: {}", updatedUser.getEmail());
 
-        return modelMapper.map(updatedUser, UserDto.Response.class);
+        return userMapper.map(updatedUser);
     }
 
     public void changePassword(Long id, UserDto.PasswordChangeRequest request) {
@@ -128,6 +138,7 @@ public class UserService {
         // 새 비밀번호 설정
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userPrincipalCache.evictAfterCommit(id);
 
         log.info("사용자 비밀번호 변경됨: {}", user.getEmail());
     }
@@ -136,16 +147,19 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
 
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(false);
         userRepository.save(user);
+        userPrincipalCache.evictAfterCommit(id);
+        if (wasActive) {
+            statisticsRollupService.recordAfterCommit(StatisticType.DAILY_USERS, StatisticsRollupService.DEACTIVATIONS, 1);
+        }
 
         log.info("사용자 비활성화됨: {}", user.getEmail());
     }
 
     @Transactional(readOnly = true)
     public List<UserDto.Response> searchUsersByNickname(String nickname) {
-        return userRepository.findByNicknameContainingAndIsActiveTrue(nickname).stream()
-                .map(user -> modelMapper.map(user, UserDto.Response.class))
-                .collect(Collectors.toList());
+        return userMapper.mapAll(userRepository.findByNicknameContainingAndIsActiveTrue(nickname));
     }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.demo.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -21,9 +22,16 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private int jwtExpirationInMs;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 서명 키와 파서는 불변이므로 기동 시 한 번만 생성
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -34,44 +42,23 @@ public class JwtTokenProvider {
                 .subject(Long.toString(userPrincipal.getId()))
                 .issuedAt(new Date())
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
         
         log.debug("Generated JWT token for user ID: {}", userPrincipal.getId());
         return token;
     }
 
-    public Long getUserIdFromToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 클레임을 반환한다.
+     * 유효하지 않은 토큰이면 null 을 반환한다.
+     */
+    public Claims parseClaims(String authToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            String subject = claims.getSubject();
-            log.debug("Token subject: {}, issued at: {}, expires at: {}", 
-                     subject, claims.getIssuedAt(), claims.getExpiration());
-            
-            return Long.parseLong(subject);
-        } catch (Exception e) {
-            log.error("Error extracting user ID from token: {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    public boolean validateToken(String authToken) {
-        try {
-            log.debug("Validating JWT token...");
-            Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(authToken)
-                .getPayload();
-            
+            Claims claims = jwtParser.parseSignedClaims(authToken).getPayload();
             log.debug("Token validation successful. Subject: {}, expires: {}", 
                      claims.getSubject(), claims.getExpiration());
-            return true;
+            return claims;
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
@@ -86,6 +73,26 @@ public class JwtTokenProvider {
         } catch (Exception ex) {
             log.error("Unknown JWT validation error: {}", ex.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    public Long getUserIdFromToken(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+            String subject = claims.getSubject();
+            log.debug("Token subject: {}, issued at: {}, expires at: {}", 
+                     subject, claims.getIssuedAt(), claims.getExpiration());
+            
+            return Long.parseLong(subject);
+        } catch (Exception e) {
+            log.error("Error extracting user ID from token: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    public boolean validateToken(String authToken) {
+        log.debug("Validating JWT token...");
+        return parseClaims(authToken) != null;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 웹소켓 세션 사용자를 인증한다.
+ * 세션 Principal 의 이름은 사용자 ID 이므로 /user/{id}/queue/... 로 개인 메시지를 보낼 수 있다.
+ * 토큰이 없거나 유효하지 않으면 익명 세션으로 연결된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider tokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String jwt = getJwtFromHeader(accessor.getFirstNativeHeader("Authorization"));
+        Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
+        if (claims != null) {
+            UserPrincipal userPrincipal = userPrincipalCache.get(Long.parseLong(claims.getSubject()));
+            if (userPrincipal.isEnabled()) {
+                accessor.setUser(new StompAuthentication(userPrincipal));
+                log.debug("웹소켓 사용자 인증됨: {}", userPrincipal.getId());
+            }
+        }
+        return message;
+    }
+
+    private String getJwtFromHeader(String bearerToken) {
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    // 사용자 목적지(/user/{name}/...) 해석에 쓰이는 이름을 이메일 대신 사용자 ID 로 사용
+    public static class StompAuthentication extends UsernamePasswordAuthenticationToken {
+
+        public StompAuthentication(UserPrincipal userPrincipal) {
+            super(userPrincipal, null, userPrincipal.getAuthorities());
+        }
+
+        @Override
+        public String getName() {
+            return String.valueOf(((UserPrincipal) getPrincipal()).getId());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 사용자 ID 별 인증 주체 캐시.
+ * 인증된 요청마다 users 테이블을 조회하지 않도록 UserPrincipal 을 크기/TTL 제한으로 보관하고,
+ * 비밀번호 변경, 비활성화, 권한 변경 시 무효화한다.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<Long, UserPrincipal> cache;
+
+    public UserPrincipalCache(CustomUserDetailsService userDetailsService,
+                              @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public UserPrincipal get(Long userId) {
+        return cache.get(userId, id -> (UserPrincipal) userDetailsService.loadUserById(id));
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        log.debug("인증 사용자 캐시 무효화: {}", userId);
+    }
+
+    // 변경이 커밋된 뒤 무효화 (커밋 전 재조회로 이전 값이 다시 캐시되지 않도록)
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+}
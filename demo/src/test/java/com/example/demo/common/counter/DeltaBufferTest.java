@@ -0,0 +1,86 @@
+package com.example.demo.common.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaBufferTest {
+
+    private static final int WRITERS = 4;
+    private static final int INCREMENTS_PER_WRITER = 200_000;
+    private static final int KEYS = 64;
+
+    @Test
+    void drainRemovesIdleKeysAndKeepsActiveOnes() {
+        DeltaBuffer<Long> buffer = new DeltaBuffer<>();
+        buffer.add(1L, 3);
+        buffer.increment(2L);
+
+        assertThat(buffer.drain()).containsEntry(1L, 3L).containsEntry(2L, 1L);
+        assertThat(buffer.pendingKeys()).isEqualTo(2);
+
+        buffer.increment(2L);
+        assertThat(buffer.drain()).containsOnlyKeys(2L);
+        assertThat(buffer.pendingKeys()).isEqualTo(1);
+    }
+
+    // drain 이 변화 없는 키를 지우는 동안 같은 키에 쓰기가 들어와도 증가분이 유실되지 않아야 한다
+    @Test
+    void concurrentIncrementsAreNotLostWhileDraining() throws InterruptedException {
+        DeltaBuffer<Long> buffer = new DeltaBuffer<>();
+
+        long drainedTotal = drainWhileWriting(buffer, n -> 1);
+
+        assertThat(drainedTotal).isEqualTo((long) WRITERS * INCREMENTS_PER_WRITER);
+        assertThat(buffer.pendingTotal()).isZero();
+    }
+
+    // 좋아요/취소처럼 증감이 섞여 합이 0 이 된 키가 제거되어도 유실되거나 두 번 반영되지 않아야 한다
+    @Test
+    void mixedDeltasAreNeitherLostNorDoubledWhileDraining() throws InterruptedException {
+        DeltaBuffer<Long> buffer = new DeltaBuffer<>();
+
+        long drainedTotal = drainWhileWriting(buffer, n -> n % 2 == 0 ? 2 : -1);
+
+        assertThat(drainedTotal).isEqualTo((long) WRITERS * INCREMENTS_PER_WRITER / 2);
+        assertThat(buffer.pendingTotal()).isZero();
+    }
+
+    private long drainWhileWriting(DeltaBuffer<Long> buffer, IntToLongFunction deltaAt) throws InterruptedException {
+        AtomicLong drainedTotal = new AtomicLong();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(WRITERS);
+
+        Thread drainer = new Thread(() -> {
+            while (writing.get()) {
+                buffer.drain().values().forEach(drainedTotal::addAndGet);
+            }
+        });
+        drainer.start();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            Thread writer = new Thread(() -> {
+                for (int n = 0; n < INCREMENTS_PER_WRITER; n++) {
+                    buffer.add(ThreadLocalRandom.current().nextLong(KEYS), deltaAt.applyAsLong(n));
+                }
+                done.countDown();
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        done.await();
+        writing.set(false);
+        drainer.join();
+        buffer.drain().values().forEach(drainedTotal::addAndGet);
+        return drainedTotal.get();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.common.metrics;
+
+import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.category.repository.CategoryRepository;
+import com.example.demo.modules.chat.entity.ChatRoom;
+import com.example.demo.modules.chat.repository.ChatRoomRepository;
+import com.example.demo.modules.comment.entity.Comment;
+import com.example.demo.modules.comment.repository.CommentRepository;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.repository.PostRepository;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @QueryBudget 이 선언된 엔드포인트가 예산 안에서 응답하는지 검증.
+ * 테스트 프로파일은 query.budget.enforce=true 이므로 예산을 넘으면 요청이 QueryBudgetExceededException 으로 실패한다.
+ * 작성자/카테고리/댓글 작성자/채팅방 개설자를 여러 명으로 두어 N+1 이 있으면 SQL 수가 늘어나게 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetEndpointTest {
+
+    private static final int AUTHOR_COUNT = 4;
+    private static final int POSTS_PER_AUTHOR = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    private Long authorId;
+    private Long categoryId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            authors.add(userRepository.save(User.builder()
+                    .email(UUID.randomUUID() + "@test.com")
+                    .password("password")
+                    .name("작성자 " + i)
+                    .build()));
+        }
+        Category category = categoryRepository.save(Category.builder()
+                .name("카테고리-" + UUID.randomUUID())
+                .build());
+
+        Post post = null;
+        for (User author : authors) {
+            for (int i = 0; i < POSTS_PER_AUTHOR; i++) {
+                post = postRepository.save(Post.builder()
+                        .title("게시글")
+                        .content("본문")
+                        .author(author)
+                        .category(category)
+                        .build());
+            }
+        }
+        for (User author : authors) {
+            Comment root = commentRepository.save(Comment.builder()
+                    .content("댓글").post(post).author(author).build());
+            commentRepository.save(Comment.builder()
+                    .content("답글").post(post).author(authors.get(0)).parent(root).build());
+            chatRoomRepository.save(ChatRoom.builder()
+                    .name("채팅방")
+                    .creator(author)
+                    .build());
+        }
+
+        authorId = authors.get(0).getId();
+        categoryId = category.getId();
+        postId = post.getId();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "/api/posts/public,                           /api/posts/public?size=5,                            3",
+            "/api/posts/public/cursor,                    /api/posts/public/cursor?size=5,                     2",
+            "/api/posts/category/{categoryId},            /api/posts/category/{categoryId}?size=5,             3",
+            "/api/posts/category/{categoryId}/cursor,     /api/posts/category/{categoryId}/cursor?size=5,      2",
+            "/api/posts/author/{authorId},                /api/posts/author/{authorId}?size=3,                 3",
+            "/api/posts/author/{authorId}/cursor,         /api/posts/author/{authorId}/cursor?size=3,          2",
+            "/api/posts/popular,                          /api/posts/popular,                                  2",
+            "/api/comments/post/{postId},                 /api/comments/post/{postId},                         3",
+            "/api/chat/rooms,                             /api/chat/rooms,                                     2"
+    })
+    void endpointStaysWithinQueryBudget(String pattern, String uri, int budget) throws Exception {
+        mockMvc.perform(get(uri.replace("{authorId}", authorId.toString())
+                        .replace("{categoryId}", categoryId.toString())
+                        .replace("{postId}", postId.toString())))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("sql.statements")
+                .tag("endpoint", "GET " + pattern)
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.max()).isBetween(1.0, (double) budget);
+    }
+}
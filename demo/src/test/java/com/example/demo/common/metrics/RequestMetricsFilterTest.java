@@ -0,0 +1,68 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMetricsFilterTest {
+
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector(true);
+
+    @Test
+    void budgetExceededIsRethrownEvenIfHandlerCatchesIt() {
+        RequestMetricsFilter filter = new RequestMetricsFilter(recorder(), true);
+
+        // 컨트롤러의 catch (RuntimeException e) 처럼 예외를 삼키고 정상 응답을 만드는 핸들러
+        FilterChain swallowingHandler = (request, response) -> {
+            RequestMetrics.current().setQueryBudget(1);
+            inspector.inspect("select 1");
+            try {
+                inspector.inspect("select 2");
+            } catch (RuntimeException e) {
+                ((MockHttpServletResponse) response).setStatus(400);
+            }
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/"),
+                new MockHttpServletResponse(), swallowingHandler))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("2 > 1");
+        assertThat(RequestMetrics.current()).isNull();
+    }
+
+    @Test
+    void requestWithinBudgetPasses() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(recorder(), true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), response, (req, res) -> {
+            RequestMetrics.current().setQueryBudget(1);
+            inspector.inspect("select 1");
+        });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void budgetIsOnlyReportedWhenNotEnforced() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestMetricsFilter filter = new RequestMetricsFilter(new RequestMetricsRecorder(registry, 5), false);
+        QueryCountingStatementInspector reportingInspector = new QueryCountingStatementInspector(false);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), (req, res) -> {
+            RequestMetrics.current().setQueryBudget(0);
+            reportingInspector.inspect("select 1");
+        });
+
+        assertThat(registry.get("sql.budget.exceeded").counter().count()).isEqualTo(1.0);
+    }
+
+    private static RequestMetricsRecorder recorder() {
+        return new RequestMetricsRecorder(new SimpleMeterRegistry(), 5);
+    }
+}
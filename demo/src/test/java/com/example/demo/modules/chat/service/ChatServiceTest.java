@@ -0,0 +1,114 @@
+package com.example.demo.modules.chat.service;
+
+import com.example.demo.modules.chat.dto.ChatDto;
+import com.example.demo.modules.chat.entity.ChatMessage;
+import com.example.demo.modules.chat.entity.ChatRoom;
+import com.example.demo.modules.chat.repository.ChatMessageRepository;
+import com.example.demo.modules.chat.repository.ChatRoomRepository;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ChatServiceTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageWriter chatMessageWriter;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User sender;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password")
+                .name("보낸 사람")
+                .nickname("닉네임")
+                .build());
+        room = chatRoomRepository.save(ChatRoom.builder()
+                .name("채팅방")
+                .creator(sender)
+                .build());
+    }
+
+    @Test
+    void invalidContentIsRejectedBeforeBroadcast() {
+        long persisted = chatMessageWriter.getPersistedCount();
+
+        assertThatThrownBy(() -> chatService.saveMessage(request(null), sender.getId()))
+                .hasMessageContaining("필수");
+        assertThatThrownBy(() -> chatService.saveMessage(request("  "), sender.getId()))
+                .hasMessageContaining("필수");
+        assertThatThrownBy(() -> chatService.saveMessage(request("가".repeat(1001)), sender.getId()))
+                .hasMessageContaining("1000");
+
+        assertThat(chatMessageWriter.getQueueSize()).isZero();
+        assertThat(chatMessageWriter.getPersistedCount()).isEqualTo(persisted);
+        assertThat(chatService.getChatMessages(room.getId(), 10)).isEmpty();
+    }
+
+    @Test
+    void storedMessageAppearsInHistory() {
+        ChatDto.MessageResponse sent = chatService.saveMessage(request("가".repeat(1000)), sender.getId());
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(chatMessageRepository.findById(sent.getId())).isPresent());
+        assertThat(chatService.getChatMessages(room.getId(), 10))
+                .extracting(ChatDto.MessageResponse::getId)
+                .containsExactly(sent.getId());
+    }
+
+    // 저장기가 저장하지 못한 메시지(존재하지 않는 방 등)는 히스토리에 남지 않아야 한다
+    @Test
+    void droppedMessageIsNotAddedToHistory() {
+        long missingRoomId = room.getId() + 10_000;
+        long dropped = chatMessageWriter.getDroppedCount();
+        ChatDto.MessageResponse orphan = ChatDto.MessageResponse.builder()
+                .id(chatMessageWriter.nextId())
+                .content("저장되지 않는 메시지")
+                .type(ChatMessage.MessageType.CHAT)
+                .senderId(sender.getId())
+                .roomId(missingRoomId)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        chatMessageWriter.enqueue(new ChatMessageWriter.PendingMessage(orphan));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(chatMessageWriter.getDroppedCount()).isEqualTo(dropped + 1));
+        assertThat(chatService.getChatMessages(missingRoomId, 10)).isEmpty();
+    }
+
+    private ChatDto.MessageRequest request(String content) {
+        ChatDto.MessageRequest request = new ChatDto.MessageRequest();
+        request.setContent(content);
+        request.setRoomId(room.getId());
+        return request;
+    }
+}
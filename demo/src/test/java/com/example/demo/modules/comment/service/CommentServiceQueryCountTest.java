@@ -0,0 +1,110 @@
+package com.example.demo.modules.comment.service;
+
+import com.example.demo.modules.comment.dto.CommentDto;
+import com.example.demo.modules.comment.entity.Comment;
+import com.example.demo.modules.comment.repository.CommentRepository;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.repository.PostRepository;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void commentTreeIsLoadedWithCommentAndTitleStatements() {
+        // 작성자 여러 명, 루트 댓글 3개에 2단계 답글까지 있는 게시글
+        List<User> authors = List.of(createUser(), createUser(), createUser());
+        Post post = postRepository.save(Post.builder()
+                .title("댓글 트리")
+                .content("본문")
+                .author(authors.get(0))
+                .build());
+        for (int i = 0; i < 3; i++) {
+            Comment root = createComment(post, authors.get(i % 3), null);
+            Comment reply = createComment(post, authors.get((i + 1) % 3), root);
+            createComment(post, authors.get((i + 2) % 3), reply);
+        }
+
+        statistics.clear();
+        List<CommentDto.Response> tree = commentService.getCommentsByPostId(post.getId());
+
+        // 댓글+작성자 한 번, 게시글 제목 한 번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(tree).hasSize(3);
+        assertThat(tree).allSatisfy(root -> {
+            assertThat(root.getPost().getId()).isEqualTo(post.getId());
+            assertThat(root.getPost().getTitle()).isEqualTo("댓글 트리");
+            assertThat(root.getReplies()).hasSize(1);
+            assertThat(root.getReplies().get(0).getReplies()).hasSize(1);
+        });
+    }
+
+    @Test
+    void emptyPostIsLoadedWithOneStatement() {
+        Post post = postRepository.save(Post.builder()
+                .title("댓글 없음")
+                .content("본문")
+                .author(createUser())
+                .build());
+
+        statistics.clear();
+        List<CommentDto.Response> tree = commentService.getCommentsByPostId(post.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(tree).isEmpty();
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password")
+                .name("작성자")
+                .build());
+    }
+
+    private Comment createComment(Post post, User author, Comment parent) {
+        return commentRepository.save(Comment.builder()
+                .content("댓글")
+                .post(post)
+                .author(author)
+                .parent(parent)
+                .build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.modules.file.service;
+
+import com.example.demo.modules.file.dto.FileDto;
+import com.example.demo.modules.file.storage.BlobStore;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageDerivativeServiceTest {
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    @Qualifier("imageDerivativeExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    @MockitoSpyBean
+    private BlobStore blobStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // 파생본 작업이 대기하는 동안 원본이 삭제되면 파생본을 만들지 않아야 한다
+    @Test
+    void jobQueuedBeforeDeleteDoesNotWriteDerivatives() throws IOException {
+        User uploader = createUser();
+
+        CountDownLatch release = blockWorkers();
+        FileDto.Response file;
+        try {
+            file = fileService.uploadFile(new MockMultipartFile("file", "image.png", "image/png", png()),
+                    uploader.getId()).getFile();
+            fileService.deleteFile(file.getId(), uploader.getId());
+        } finally {
+            release.countDown();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                imageDerivativeService.getPendingCount() == 0 && executor.getActiveCount() == 0);
+        String prefix = "derivatives/" + file.getChecksumSha256() + "/";
+        assertThat(blobStore.stat(prefix + "thumb.jpg")).isEmpty();
+        assertThat(blobStore.stat(prefix + "medium.jpg")).isEmpty();
+    }
+
+    // 파생본을 저장하는 도중 원본이 삭제되면 URL 을 연결하지 않고 저장한 파생본을 지워야 한다
+    @Test
+    void deleteDuringJobRemovesWrittenDerivatives() throws IOException {
+        User uploader = createUser();
+        AtomicReference<Long> fileId = new AtomicReference<>();
+        // 중간 크기 파생본을 저장한 직후(썸네일 저장 전) 파일을 삭제
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            fileService.deleteFile(fileId.get(), uploader.getId());
+            return result;
+        }).when(blobStore).put(endsWith("/medium.jpg"), any(byte[].class), anyString(), anyString());
+
+        CountDownLatch release = blockWorkers();
+        FileDto.Response file;
+        try {
+            file = fileService.uploadFile(new MockMultipartFile("file", "image.png", "image/png", png()),
+                    uploader.getId()).getFile();
+            fileId.set(file.getId());
+        } finally {
+            release.countDown();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                imageDerivativeService.getPendingCount() == 0 && executor.getActiveCount() == 0);
+        String prefix = "derivatives/" + file.getChecksumSha256() + "/";
+        assertThat(blobStore.stat(prefix + "thumb.jpg")).isEmpty();
+        assertThat(blobStore.stat(prefix + "medium.jpg")).isEmpty();
+    }
+
+    // 작업 스레드를 모두 붙잡아 두어 파생본 작업이 대기열에 머물게 함 (반환된 latch 를 풀면 진행)
+    private CountDownLatch blockWorkers() {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < executor.getCorePoolSize(); i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        return release;
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password")
+                .name("업로더")
+                .build());
+    }
+
+    private static byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        // 테스트마다 내용(해시)이 달라지도록 임의의 픽셀을 찍음
+        image.setRGB(0, 0, UUID.randomUUID().hashCode());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.modules.post.search;
+
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.event.PostChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재생성 중에도 검색은 이전 인덱스를 보고, 재생성 중 들어온 변경은 재생성 결과 위에 다시 적용되어야 한다.
+ */
+class LucenePostSearchEngineTest {
+
+    @TempDir
+    Path indexDir;
+
+    private LucenePostSearchEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new LucenePostSearchEngine();
+        ReflectionTestUtils.setField(engine, "indexDir", indexDir.toString());
+        engine.open();
+        engine.index(post(1L, "사과"));
+        engine.index(post(2L, "사과"));
+        engine.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        engine.close();
+    }
+
+    @Test
+    void searchesKeepPreviousIndexAndChangesDuringRebuildAreReplayed() throws IOException {
+        List<List<PostChangedEvent>> batches = List.of(
+                List.of(post(1L, "사과")),
+                List.of(post(2L, "사과")));
+
+        engine.rebuild(() -> new Iterator<>() {
+            private final Iterator<List<PostChangedEvent>> delegate = batches.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public List<PostChangedEvent> next() {
+                try {
+                    // 첫 배치를 읽은 뒤 삭제된 게시글과 수정된 게시글
+                    engine.delete(1L);
+                    engine.index(post(2L, "바나나"));
+                    engine.refresh();
+                    engine.commit();
+                    assertThat(hits("사과")).isEqualTo(2);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return delegate.next();
+            }
+        });
+
+        assertThat(hits("사과")).isZero();
+        assertThat(hits("바나나")).isEqualTo(1);
+        assertThat(engine.documentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedRebuildRollsBackToLastCommit() throws IOException {
+        engine.commit();
+
+        assertThatThrownBy(() -> engine.rebuild(() -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public List<PostChangedEvent> next() {
+                throw new IllegalStateException("DB 조회 실패");
+            }
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(engine.documentCount()).isEqualTo(2);
+        assertThat(hits("사과")).isEqualTo(2);
+    }
+
+    private long hits(String keyword) throws IOException {
+        return engine.search(PostDto.SearchRequest.builder()
+                .keyword(keyword)
+                .sortBy("relevance")
+                .build()).totalHits();
+    }
+
+    private PostChangedEvent post(Long id, String title) {
+        return new PostChangedEvent(PostChangedEvent.ChangeType.UPDATED, id, title, "본문",
+                1L, 1L, true, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.demo.modules.post.service;
+
+import com.example.demo.common.pagination.CursorPage;
+import com.example.demo.modules.category.entity.Category;
+import com.example.demo.modules.category.repository.CategoryRepository;
+import com.example.demo.modules.post.dto.PostDto;
+import com.example.demo.modules.post.entity.Post;
+import com.example.demo.modules.post.repository.PostRepository;
+import com.example.demo.modules.user.entity.User;
+import com.example.demo.modules.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록/상세 조회가 실행하는 SQL 수 검증.
+ * 목록은 요약 프로젝션 한 번(페이지가 가득 차면 COUNT 한 번 추가), 상세는 fetch join 한 번이어야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostServiceQueryCountTest {
+
+    private static final int POST_COUNT = 5;
+    private static final int PAGE_SIZE = 3;
+    private static final String LONG_CONTENT = "가".repeat(500);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User author;
+    private Category category;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        author = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@test.com")
+                .password("password")
+                .name("작성자")
+                .nickname("닉네임")
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("카테고리-" + UUID.randomUUID())
+                .color("#000000")
+                .build());
+        for (int i = 0; i < POST_COUNT; i++) {
+            post = postRepository.save(Post.builder()
+                    .title("게시글 " + i)
+                    .content(LONG_CONTENT)
+                    .author(author)
+                    .category(category)
+                    .build());
+        }
+    }
+
+    @Test
+    void publicPostsUseSummaryQueryAndCount() {
+        Page<PostDto.Summary> page = countStatements(2, () -> postService.getPublishedPosts(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertSummaries(page.getContent());
+    }
+
+    @Test
+    void publicFeedUsesOneStatementPerPage() {
+        CursorPage<PostDto.Summary> first = countStatements(1, () -> postService.getPublishedPostsByCursor(null, PAGE_SIZE));
+        countStatements(1, () -> postService.getPublishedPostsByCursor(first.getNextCursor(), PAGE_SIZE));
+
+        assertThat(first.isHasNext()).isTrue();
+        assertSummaries(first.getContent());
+    }
+
+    @Test
+    void categoryPostsUseSummaryQueryAndCount() {
+        Page<PostDto.Summary> page = countStatements(2,
+                () -> postService.getPostsByCategory(category.getId(), 0, PAGE_SIZE));
+
+        assertThat(page.getTotalElements()).isEqualTo(POST_COUNT);
+        assertSummaries(page.getContent());
+        assertThat(page.getContent()).allSatisfy(summary ->
+                assertThat(summary.getCategory().getName()).isEqualTo(category.getName()));
+    }
+
+    @Test
+    void categoryFeedUsesOneStatementPerPage() {
+        CursorPage<PostDto.Summary> first = countStatements(1,
+                () -> postService.getPostsByCategoryCursor(category.getId(), null, PAGE_SIZE));
+        CursorPage<PostDto.Summary> second = countStatements(1,
+                () -> postService.getPostsByCategoryCursor(category.getId(), first.getNextCursor(), PAGE_SIZE));
+
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(second.getContent()).hasSize(POST_COUNT - PAGE_SIZE);
+        assertThat(second.isHasNext()).isFalse();
+        assertSummaries(second.getContent());
+    }
+
+    @Test
+    void authorPostsUseSummaryQueryAndCount() {
+        Page<PostDto.Summary> page = countStatements(2,
+                () -> postService.getPostsByAuthor(author.getId(), 0, PAGE_SIZE));
+
+        assertThat(page.getTotalElements()).isEqualTo(POST_COUNT);
+        assertSummaries(page.getContent());
+    }
+
+    @Test
+    void authorFeedUsesOneStatementPerPage() {
+        CursorPage<PostDto.Summary> first = countStatements(1,
+                () -> postService.getPostsByAuthorCursor(author.getId(), null, PAGE_SIZE));
+        CursorPage<PostDto.Summary> second = countStatements(1,
+                () -> postService.getPostsByAuthorCursor(author.getId(), first.getNextCursor(), PAGE_SIZE));
+
+        assertThat(second.getContent()).hasSize(POST_COUNT - PAGE_SIZE);
+        assertSummaries(first.getContent());
+    }
+
+    @Test
+    void filteredPostsUseSummaryQueryAndCount() {
+        PostDto.SearchRequest request = PostDto.SearchRequest.builder()
+                .authorId(author.getId())
+                .size(PAGE_SIZE)
+                .build();
+
+        Page<PostDto.Summary> page = countStatements(2, () -> postService.getAllPosts(request));
+        CursorPage<PostDto.Summary> feed = countStatements(1, () -> postService.getPostsByCursor(request, null));
+
+        assertThat(page.getTotalElements()).isEqualTo(POST_COUNT);
+        assertSummaries(page.getContent());
+        assertSummaries(feed.getContent());
+    }
+
+    @Test
+    void popularPostsUseOneStatement() {
+        List<PostDto.Summary> popular = countStatements(1, () -> postService.getPopularPosts());
+
+        assertThat(popular).isNotEmpty();
+        assertThat(popular).allSatisfy(summary -> assertThat(summary.getAuthor().getName()).isNotNull());
+    }
+
+    @Test
+    void postDetailUsesOneStatement() {
+        PostDto.Response response = countStatements(1, () -> postService.getPostById(post.getId()));
+
+        assertThat(response.getContent()).isEqualTo(LONG_CONTENT);
+        assertThat(response.getAuthor().getNickname()).isEqualTo("닉네임");
+        assertThat(response.getCategory().getName()).isEqualTo(category.getName());
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    // 목록은 본문 대신 200자 발췌와 작성자/카테고리 요약을 담아야 한다
+    private void assertSummaries(List<PostDto.Summary> summaries) {
+        assertThat(summaries).isNotEmpty().allSatisfy(summary -> {
+            assertThat(summary.getExcerpt()).hasSize(200);
+            assertThat(summary.getAuthor().getName()).isEqualTo("작성자");
+            assertThat(summary.getCategory()).isNotNull();
+        });
+    }
+}